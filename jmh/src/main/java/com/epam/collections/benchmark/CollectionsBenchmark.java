@@ -0,0 +1,245 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Side-by-side JMH benchmark of CustomArrayList, CustomLinkedList,
+ * CustomTreeSet and CustomHashSet against ArrayList, LinkedList, TreeSet and
+ * HashSet. Covers add, contains, remove, iteration, the bulk operations and
+ * retainAll for every size and key distribution, and get for the lists in
+ * {@link Positional}. Lookups are reported per lookup, everything else per
+ * pass over the whole collection. The bulk removeAll and retainAll rows
+ * include filling the collection with addAll, which is measured on its own.
+ * Sorted keys degenerate CustomTreeSet, which is not self-balancing, into a
+ * list. Its sorted rows measure that worst case at every size.
+ * Run with the GC profiler: java -jar jmh/target/benchmarks.jar CollectionsBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionsBenchmark {
+    private static final int LOOKUPS = 1_000;
+
+    public enum Distribution {
+        RANDOM, SORTED, FEW_UNIQUE
+    }
+
+    @Param({"CustomArrayList", "ArrayList", "CustomLinkedList", "LinkedList",
+            "CustomTreeSet", "TreeSet", "CustomHashSet", "HashSet"})
+    public String collection;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private Integer[] keys;
+    private List<Integer> source;
+    private Set<Integer> half;
+    private Integer[] probes;
+    private Collection<Integer> filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = random(size, distribution);
+
+        keys = keys(distribution, size, random);
+        source = Arrays.asList(keys);
+        half = new HashSet<>();
+        for (int i = 0; i < keys.length; i += 2) {
+            half.add(keys[i]);
+        }
+
+        probes = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            probes[i] = keys[random.nextInt(size)];
+        }
+
+        // Filled one element at a time, so sorted keys build the degenerate
+        // CustomTreeSet that addAll would have balanced.
+        filled = create(collection);
+        for (Integer key : keys) {
+            filled.add(key);
+        }
+    }
+
+    @Benchmark
+    public Collection<Integer> add() {
+        Collection<Integer> c = create(collection);
+
+        for (Integer key : keys) {
+            c.add(key);
+        }
+
+        return c;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void contains(Blackhole blackhole) {
+        for (Integer probe : probes) {
+            blackhole.consume(filled.contains(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void removeAndAdd(Blackhole blackhole) {
+        for (Integer probe : probes) {
+            if (filled.remove(probe)) {
+                blackhole.consume(filled.add(probe));
+            }
+        }
+    }
+
+    @Benchmark
+    public void iteration(Blackhole blackhole) {
+        for (Integer value : filled) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public Collection<Integer> addAll() {
+        Collection<Integer> c = create(collection);
+        c.addAll(source);
+
+        return c;
+    }
+
+    @Benchmark
+    public Collection<Integer> addAllAndRemoveAll() {
+        Collection<Integer> c = create(collection);
+        c.addAll(source);
+        c.removeAll(half);
+
+        return c;
+    }
+
+    @Benchmark
+    public Collection<Integer> addAllAndRetainAll() {
+        Collection<Integer> c = create(collection);
+        c.addAll(source);
+        c.retainAll(half);
+
+        return c;
+    }
+
+    /**
+     * Positional get, for the lists only.
+     */
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    @State(Scope.Benchmark)
+    public static class Positional {
+        @Param({"CustomArrayList", "ArrayList", "CustomLinkedList", "LinkedList"})
+        public String collection;
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        private int[] indexes;
+        private Collection<Integer> filled;
+
+        // The values do not affect get, so there is no distribution parameter.
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(size);
+
+            indexes = new int[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                indexes[i] = random.nextInt(size);
+            }
+
+            filled = create(collection);
+            for (int i = 0; i < size; i++) {
+                filled.add(i);
+            }
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(LOOKUPS)
+        public void get(Blackhole blackhole) {
+            for (int index : indexes) {
+                blackhole.consume(CollectionsBenchmark.get(filled, index));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                           .include(CollectionsBenchmark.class.getSimpleName())
+                           .addProfiler(GCProfiler.class)
+                           .build()).run();
+    }
+
+    private static Collection<Integer> create(String name) {
+        switch (name) {
+            case "CustomArrayList":
+                return new CustomArrayList<>();
+            case "ArrayList":
+                return new ArrayList<>();
+            case "CustomLinkedList":
+                return new CustomLinkedList<>();
+            case "LinkedList":
+                return new LinkedList<>();
+            case "CustomTreeSet":
+                return new CustomTreeSet<>();
+            case "TreeSet":
+                return new TreeSet<>();
+            case "CustomHashSet":
+                return new CustomHashSet<>();
+            case "HashSet":
+                return new HashSet<>();
+            default:
+                throw new IllegalArgumentException("Unknown collection: " + name);
+        }
+    }
+
+    private static Random random(int size, Distribution distribution) {
+        return new Random(size * 31L + distribution.ordinal());
+    }
+
+    private static Integer[] keys(Distribution distribution, int size, Random random) {
+        Integer[] keys = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case RANDOM:
+                    keys[i] = random.nextInt();
+                    break;
+                case SORTED:
+                    keys[i] = i;
+                    break;
+                default:
+                    keys[i] = random.nextInt(Math.max(1, size / 64));
+            }
+        }
+
+        return keys;
+    }
+
+    private static Integer get(Collection<Integer> c, int index) {
+        if (c instanceof CustomLinkedList) {
+            return ((CustomLinkedList<Integer>) c).get(index);
+        }
+
+        return ((List<Integer>) c).get(index);
+    }
+}
@@ -26,7 +26,7 @@ public class Main {
         list.add(29);
         list.add(33);
         list.add(19);
-        treeSet.retainAll(list);
+        treeSet.retainAll(new CustomHashSet<>(list));
         System.out.println(treeSet.toString());
     }
 }
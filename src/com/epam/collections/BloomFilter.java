@@ -0,0 +1,105 @@
+package com.epam.collections;
+
+import java.util.Arrays;
+
+/**
+ * Blocked Bloom filter used as a membership front by {@link CustomTreeSet}
+ * and {@link CustomLinkedList}.
+ * Each element sets four bits within a single 64-bit word, so a lookup
+ * touches one word and one cache line. With about 16 bits of table per
+ * element, a few percent of misses get through as false positives. A filter
+ * never gives false negatives while it covers every element of its owner.
+ *
+ * <p>Bits cannot be cleared, so removing elements only makes the filter less
+ * selective. The owner rebuilds it lazily, on the next lookup after
+ * {@link #isStale} turns true. That happens once half of the elements added
+ * since the last rebuild are gone, once the table is over capacity, or after
+ * {@link #invalidate} for changes the filter did not see.
+ */
+final class BloomFilter {
+    private static final int MIN_CAPACITY = 64;
+
+    private long[] words;
+    private int mask;
+    private int capacity;
+    private int inserted;
+    private boolean invalid;
+
+    BloomFilter() {
+        reset(0);
+    }
+
+    void add(Object o) {
+        long h = hash(o);
+
+        words[(int) h & mask] |= bits(h);
+        inserted++;
+    }
+
+    /**
+     * @return false if {@code o} is definitely not an element
+     */
+    boolean mightContain(Object o) {
+        long h = hash(o);
+        long bits = bits(h);
+
+        return (words[(int) h & mask] & bits) == bits;
+    }
+
+    /**
+     * Marks the filter as no longer covering all elements.
+     */
+    void invalidate() {
+        invalid = true;
+    }
+
+    /**
+     * @param size the current number of elements in the owner
+     */
+    boolean isStale(int size) {
+        return invalid || inserted > capacity || size < inserted / 2;
+    }
+
+    /**
+     * Empties the filter and sizes it for up to twice {@code size} elements.
+     * The owner then adds all its elements again.
+     */
+    void reset(int size) {
+        capacity = Math.max(MIN_CAPACITY, size * 2);
+
+        // About 16 bits, a quarter of a word, per element of capacity.
+        int length = Integer.highestOneBit(capacity / 4 - 1) << 1;
+
+        if (words == null || words.length != length) {
+            words = new long[length];
+            mask = length - 1;
+        } else {
+            Arrays.fill(words, 0);
+        }
+        inserted = 0;
+        invalid = false;
+    }
+
+    long footprint() {
+        return Footprint.object(1, 3 * Integer.BYTES + 1) + Footprint.longArray(words.length);
+    }
+
+    //Auxiliary methods
+
+    private static long hash(Object o) {
+        long h = (o == null ? 0 : o.hashCode()) * 0x9E3779B97F4A7C15L;
+
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * Picks the bits within the word from the top of the hash; the word
+     * index comes from the bottom.
+     */
+    private static long bits(long h) {
+        return 1L << (h >>> 40) | 1L << (h >>> 46) | 1L << (h >>> 52) | 1L << (h >>> 58);
+    }
+}
@@ -0,0 +1,39 @@
+package com.epam.collections;
+
+import java.util.Collection;
+
+/**
+ * Bulk copying between the custom collections.
+ * Each of them can write its elements, in iteration order, straight into an
+ * array, which lets bulk operations skip the per-element iterator and the
+ * intermediate array of {@link Collection#toArray()}.
+ */
+final class BulkTransfer {
+    private BulkTransfer() {}
+
+    /**
+     * Copies all elements of {@code c} into {@code dest} starting at
+     * {@code destPos}, if {@code c} is one of the custom collections.
+     *
+     * @return false if {@code c} is not supported and nothing was copied
+     */
+    static boolean copyTo(Collection<?> c, Object[] dest, int destPos) {
+        if (c instanceof CustomArrayList) {
+            ((CustomArrayList<?>) c).copyTo(dest, destPos);
+        } else if (c instanceof CustomLinkedList) {
+            ((CustomLinkedList<?>) c).copyTo(dest, destPos);
+        } else if (c instanceof CustomTreeSet) {
+            ((CustomTreeSet<?>) c).copyTo(dest, destPos);
+        } else if (c instanceof CustomTieredList) {
+            ((CustomTieredList<?>) c).copyTo(dest, destPos);
+        } else if (c instanceof CustomUnrolledLinkedList) {
+            ((CustomUnrolledLinkedList<?>) c).copyTo(dest, destPos);
+        } else if (c instanceof CustomHashSet) {
+            ((CustomHashSet<?>) c).copyTo(dest, destPos);
+        } else {
+            return false;
+        }
+
+        return true;
+    }
+}
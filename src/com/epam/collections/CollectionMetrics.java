@@ -0,0 +1,282 @@
+package com.epam.collections;
+
+import jdk.jfr.*;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of the Custom collections.
+ * Enabled with {@code -Dcom.epam.collections.metrics=true}. The flag is a
+ * static final constant, so when it is off the JIT folds every
+ * {@code if (CollectionMetrics.ENABLED)} guard away and the collections pay
+ * nothing. When it is on, the collections update process-wide counters and
+ * log2 histograms, and emit JFR events: one per array resize and a periodic
+ * snapshot of the counters.
+ */
+public final class CollectionMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("com.epam.collections.metrics");
+
+    private static final LongAdder RESIZES = new LongAdder();
+    private static final LongAdder RESIZE_COPIES = new LongAdder();
+    private static final LongAdder SHIFT_COPIES = new LongAdder();
+    private static final Histogram TREE_COMPARISONS = new Histogram();
+    private static final Histogram TREE_INSERT_DEPTHS = new Histogram();
+    private static final Histogram LIST_WALKS = new Histogram();
+
+    static {
+        if (ENABLED) {
+            FlightRecorder.addPeriodicEvent(SnapshotEvent.class, CollectionMetrics::emitSnapshot);
+        }
+    }
+
+    private CollectionMetrics() {}
+
+    /**
+     * Histogram with power-of-two buckets: bucket 0 counts zeros and bucket
+     * i counts values in [2^(i-1), 2^i).
+     */
+    public static final class Histogram {
+        private final LongAdder[] buckets = new LongAdder[65];
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            buckets[64 - Long.numberOfLeadingZeros(value)].increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        public long count() {
+            long count = 0;
+
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+
+            return count;
+        }
+
+        public long sum() {
+            return sum.sum();
+        }
+
+        public long max() {
+            return max.get();
+        }
+
+        public double mean() {
+            long count = count();
+
+            return count == 0 ? 0 : (double) sum() / count;
+        }
+
+        /**
+         * Returns the number of recorded values in bucket {@code i}.
+         */
+        public long bucket(int i) {
+            return buckets[i].sum();
+        }
+
+        /**
+         * Returns an upper bound of the {@code p} quantile, 0 &lt; p &lt;= 1,
+         * accurate to a power of two.
+         */
+        public long quantile(double p) {
+            long rank = (long) Math.ceil(p * count());
+            long seen = 0;
+
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank && seen > 0) {
+                    return i == 0 ? 0 : i == 64 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+
+            return 0;
+        }
+
+        private void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            sum.reset();
+            max.reset();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d mean=%.1f p50<=%d p99<=%d max=%d",
+                                 count(), mean(), quantile(0.5), quantile(0.99), max());
+        }
+    }
+
+    /**
+     * Number of times a CustomArrayList grew its backing array. Shrinking,
+     * trimToSize and trimIfIdle are not counted.
+     */
+    public static long resizes() {
+        return RESIZES.sum();
+    }
+
+    /**
+     * Element references copied into new backing arrays on resize.
+     */
+    public static long resizeCopies() {
+        return RESIZE_COPIES.sum();
+    }
+
+    /**
+     * Element references moved to open or close a gap on positional insert
+     * and remove.
+     */
+    public static long shiftCopies() {
+        return SHIFT_COPIES.sum();
+    }
+
+    /**
+     * Comparisons per CustomTreeSet lookup.
+     */
+    public static Histogram treeComparisons() {
+        return TREE_COMPARISONS;
+    }
+
+    /**
+     * Depth at which CustomTreeSet inserted new nodes; its maximum is the
+     * height reached by the tallest tree.
+     */
+    public static Histogram treeInsertDepths() {
+        return TREE_INSERT_DEPTHS;
+    }
+
+    /**
+     * Links followed per CustomLinkedList positional access.
+     */
+    public static Histogram listWalks() {
+        return LIST_WALKS;
+    }
+
+    public static void reset() {
+        RESIZES.reset();
+        RESIZE_COPIES.reset();
+        SHIFT_COPIES.reset();
+        TREE_COMPARISONS.reset();
+        TREE_INSERT_DEPTHS.reset();
+        LIST_WALKS.reset();
+    }
+
+    /**
+     * Returns a one-line-per-metric summary, for logs.
+     */
+    public static String report() {
+        return "resizes=" + resizes() + " resizeCopies=" + resizeCopies()
+                + " shiftCopies=" + shiftCopies() + System.lineSeparator()
+                + "treeComparisons: " + TREE_COMPARISONS + System.lineSeparator()
+                + "treeInsertDepths: " + TREE_INSERT_DEPTHS + System.lineSeparator()
+                + "listWalks: " + LIST_WALKS;
+    }
+
+    //Recording, called by the collections behind an ENABLED check
+
+    static void recordResize(Object collection, int oldCapacity, int newCapacity, int copied) {
+        RESIZES.increment();
+        RESIZE_COPIES.add(copied);
+
+        ResizeEvent event = new ResizeEvent();
+
+        if (event.isEnabled()) {
+            event.collection = collection.getClass().getSimpleName();
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.copied = copied;
+            event.commit();
+        }
+    }
+
+    static void recordShift(int copied) {
+        SHIFT_COPIES.add(copied);
+    }
+
+    static void recordTreeLookup(int comparisons) {
+        TREE_COMPARISONS.record(comparisons);
+    }
+
+    static void recordTreeInsert(int depth) {
+        TREE_INSERT_DEPTHS.record(depth);
+    }
+
+    static void recordListWalk(int links) {
+        LIST_WALKS.record(links);
+    }
+
+    private static void emitSnapshot() {
+        SnapshotEvent event = new SnapshotEvent();
+
+        event.resizes = resizes();
+        event.resizeCopies = resizeCopies();
+        event.shiftCopies = shiftCopies();
+        event.treeLookups = TREE_COMPARISONS.count();
+        event.treeComparisonsMean = TREE_COMPARISONS.mean();
+        event.treeMaxDepth = TREE_INSERT_DEPTHS.max();
+        event.listWalks = LIST_WALKS.count();
+        event.listWalkMean = LIST_WALKS.mean();
+        event.commit();
+    }
+
+    //JFR events
+
+    @Name("com.epam.collections.Resize")
+    @Label("Collection Resize")
+    @Category("Collections")
+    @StackTrace(false)
+    static final class ResizeEvent extends Event {
+        @Label("Collection")
+        String collection;
+
+        @Label("Old Capacity")
+        int oldCapacity;
+
+        @Label("New Capacity")
+        int newCapacity;
+
+        @Label("Copied Elements")
+        int copied;
+    }
+
+    @Name("com.epam.collections.Metrics")
+    @Label("Collection Metrics")
+    @Category("Collections")
+    @Period("1 s")
+    @StackTrace(false)
+    static final class SnapshotEvent extends Event {
+        @Label("Resizes")
+        long resizes;
+
+        @Label("Resize Copies")
+        long resizeCopies;
+
+        @Label("Shift Copies")
+        long shiftCopies;
+
+        @Label("Tree Lookups")
+        long treeLookups;
+
+        @Label("Mean Tree Comparisons")
+        double treeComparisonsMean;
+
+        @Label("Max Tree Insert Depth")
+        long treeMaxDepth;
+
+        @Label("List Walks")
+        long listWalks;
+
+        @Label("Mean List Walk")
+        double listWalkMean;
+    }
+}
@@ -4,13 +4,36 @@ import java.lang.reflect.Array;
 import java.util.*;
 
 /**
- * Custom array list implementation
+ * Custom array list implementation.
+ * Elements are kept in a circular buffer starting at {@code head}, so insertions
+ * and removals at both ends take constant time and middle operations shift
+ * whichever side of the index is shorter.
  */
 public class CustomArrayList<T> implements List<T> {
     private static final int DEFAULT_CAPACITY = 10;
     private Object[] data;
+    private int head = 0;
     private int size = 0;
     private int modCount = 0;
+    private ShrinkPolicy shrinkPolicy = ShrinkPolicy.NEVER;
+    // modCount seen by the previous trimIfIdle call.
+    private int idleModCount = -1;
+
+    /**
+     * When the list gives back spare capacity after removals.
+     */
+    public enum ShrinkPolicy {
+        /**
+         * Keep the capacity until trimToSize or trimIfIdle is called.
+         */
+        NEVER,
+        /**
+         * Once the list is less than a quarter full, shrink it to twice its
+         * size, but not below the default capacity. Leaving it half full
+         * means alternating adds and removes never resize on every call.
+         */
+        QUARTER_FULL
+    }
 
     public CustomArrayList(int initialCapacity) {
         if (initialCapacity < 0) {
@@ -25,7 +48,7 @@ public class CustomArrayList<T> implements List<T> {
     }
 
     public CustomArrayList(Collection<? extends T> c) {
-        this((int) (c.size() * 1.1f));
+        this(c.size());
         addAll(c);
     }
 
@@ -33,12 +56,59 @@ public class CustomArrayList<T> implements List<T> {
         int current = data.length;
 
         if (minCapacity > current) {
-            T[] newData = (T[]) new Object[Math.max(current * 2, minCapacity)];
-            System.arraycopy(data, 0, newData, 0, size);
-            data = newData;
+            reallocate(Math.max(current * 2, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (data.length > size) {
+            reallocate(size);
         }
     }
 
+    /**
+     * Trims the list if it has not been structurally modified since the
+     * previous call. Calling this periodically makes a list that has gone
+     * quiet after a burst give its spare capacity back.
+     *
+     * @return true if capacity was released
+     */
+    public boolean trimIfIdle() {
+        boolean idle = idleModCount == modCount;
+
+        idleModCount = modCount;
+        if (idle && data.length > size) {
+            reallocate(size);
+            return true;
+        }
+
+        return false;
+    }
+
+    public void setShrinkPolicy(ShrinkPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException();
+        }
+
+        shrinkPolicy = policy;
+        shrinkIfSparse();
+    }
+
+    public ShrinkPolicy getShrinkPolicy() {
+        return shrinkPolicy;
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the list and its
+     * backing array, not counting the elements themselves.
+     */
+    public long footprint() {
+        return Footprint.object(2, 4 * Integer.BYTES) + Footprint.referenceArray(data.length);
+    }
+
     @Override
     public int size() {
         return size;
@@ -57,7 +127,7 @@ public class CustomArrayList<T> implements List<T> {
     @Override
     public int indexOf(Object o) {
         for (int i = 0; i < size; i++) {
-            if (o.equals(data[i])) {
+            if (o.equals(data[physicalIndex(i)])) {
                 return i;
             }
         }
@@ -68,7 +138,7 @@ public class CustomArrayList<T> implements List<T> {
     @Override
     public int lastIndexOf(Object o) {
         for (int i = size - 1; i >= 0; i--) {
-            if (o.equals(data[i])) {
+            if (o.equals(data[physicalIndex(i)])) {
                 return i;
             }
         }
@@ -79,7 +149,7 @@ public class CustomArrayList<T> implements List<T> {
     @Override
     public Object[] toArray() {
         T[] array = (T[]) new Object[size];
-        System.arraycopy(data, 0, array, 0, size);
+        copyTo(array, 0);
 
         return array;
     }
@@ -91,7 +161,7 @@ public class CustomArrayList<T> implements List<T> {
         } else if (a.length > size) {
             a[size] = null;
         }
-        System.arraycopy(data, 0, a, 0, size);
+        copyTo(a, 0);
 
         return a;
     }
@@ -99,14 +169,15 @@ public class CustomArrayList<T> implements List<T> {
     @Override
     public T get(int index) {
         checkBoundExclusive(index);
-        return (T) data[index];
+        return (T) data[physicalIndex(index)];
     }
 
     @Override
     public T set(int index, T o) {
         checkBoundExclusive(index);
-        T result = (T) data[index];
-        data[index] = o;
+        int i = physicalIndex(index);
+        T result = (T) data[i];
+        data[i] = o;
 
         return result;
     }
@@ -117,7 +188,7 @@ public class CustomArrayList<T> implements List<T> {
         if (size == data.length) {
             ensureCapacity(size + 1);
         }
-        data[size++] = o;
+        data[physicalIndex(size++)] = o;
 
         return true;
     }
@@ -129,23 +200,31 @@ public class CustomArrayList<T> implements List<T> {
         if (size == data.length) {
             ensureCapacity(size + 1);
         }
-        if (index != size) {
-            System.arraycopy(data, index, data, index + 1, size - index);
+        if (index < size - index) {
+            head = physicalIndex(data.length - 1);
+            moveRange(1, 0, index);
+        } else {
+            moveRange(index, index + 1, size - index);
         }
-        data[index] = o;
+        data[physicalIndex(index)] = o;
         size++;
     }
 
     @Override
     public T remove(int index) {
         checkBoundExclusive(index);
-        T t = (T) data[index];
+        T t = (T) data[physicalIndex(index)];
         modCount++;
 
-        if (index != --size) {
-            System.arraycopy(data, index + 1, data, index, size - index);
+        if (index < --size - index) {
+            moveRange(0, 1, index);
+            data[head] = null;
+            head = physicalIndex(1);
+        } else {
+            moveRange(index + 1, index, size - index);
+            data[physicalIndex(size)] = null;
         }
-        data[size] = null;
+        shrinkIfSparse();
 
         return t;
     }
@@ -153,10 +232,8 @@ public class CustomArrayList<T> implements List<T> {
     @Override
     public boolean remove(Object o) {
         for (int i = 0; i < size; i++) {
-            if (data[i].equals(o)) {
-                System.arraycopy(data, i + 1, data, i, size - i - 1);
-                data[--size] = null;
-                modCount++;
+            if (data[physicalIndex(i)].equals(o)) {
+                remove(i);
                 return true;
             }
         }
@@ -168,8 +245,17 @@ public class CustomArrayList<T> implements List<T> {
     public void clear() {
         if (size > 0) {
             modCount++;
-            Arrays.fill(data, 0, size, null);
+            int end = head + size;
+
+            if (end <= data.length) {
+                Arrays.fill(data, head, end, null);
+            } else {
+                Arrays.fill(data, head, data.length, null);
+                Arrays.fill(data, 0, end - data.length, null);
+            }
+            head = 0;
             size = 0;
+            shrinkIfSparse();
         }
     }
 
@@ -181,24 +267,34 @@ public class CustomArrayList<T> implements List<T> {
     @Override
     public boolean addAll(int index, Collection<? extends T> c) {
         checkBoundInclusive(index);
-        Iterator<? extends T> iterator = c.iterator();
-        int cSize = c.size();
-        int end = index + cSize;
+        Object[] a = c == this ? c.toArray() : null;
+        int cSize = a != null ? a.length : c.size();
 
         modCount++;
         if (cSize + size > data.length) {
             ensureCapacity(size + cSize);
         }
-        if (size > 0 && index != size) {
-            System.arraycopy(data, index, data, end, size - index);
+        if (index < size - index) {
+            head = physicalIndex(data.length - cSize);
+            moveRange(cSize, 0, index);
+        } else {
+            moveRange(index, index + cSize, size - index);
         }
 
-        size += cSize;
+        int start = physicalIndex(index);
+
+        if (a == null && (start + cSize > data.length || !BulkTransfer.copyTo(c, data, start))) {
+            a = c.toArray();
+        }
+        if (a != null) {
+            int firstPart = Math.min(cSize, data.length - start);
 
-        for ( ; index < end; index++) {
-            data[index] = iterator.next();
+            System.arraycopy(a, 0, data, start, firstPart);
+            System.arraycopy(a, firstPart, data, 0, cSize - firstPart);
         }
 
+        size += cSize;
+
         return cSize > 0;
     }
 
@@ -219,7 +315,7 @@ public class CustomArrayList<T> implements List<T> {
         }
 
         for (int i = fromIndex; i < toIndex; i++) {
-            newList.add((T) data[i]);
+            newList.add((T) data[physicalIndex(i)]);
         }
 
         return newList;
@@ -230,7 +326,7 @@ public class CustomArrayList<T> implements List<T> {
         int i, j;
 
         for (i = 0; i < size; i++) {
-            if (c.contains(data[i])) {
+            if (c.contains(data[physicalIndex(i)])) {
                 break;
             }
         }
@@ -241,12 +337,12 @@ public class CustomArrayList<T> implements List<T> {
         modCount++;
 
         for (j = i++; i < size; i++) {
-            if (!c.contains(data[i])) {
-                data[j++] = data[i];
+            if (!c.contains(data[physicalIndex(i)])) {
+                data[physicalIndex(j++)] = data[physicalIndex(i)];
             }
         }
 
-        size -= i - j;
+        truncate(j);
 
         return true;
     }
@@ -256,7 +352,7 @@ public class CustomArrayList<T> implements List<T> {
         int i, j;
 
         for (i = 0; i < size; i++) {
-            if (!c.contains(data[i])) {
+            if (!c.contains(data[physicalIndex(i)])) {
                 break;
             }
         }
@@ -267,12 +363,12 @@ public class CustomArrayList<T> implements List<T> {
         modCount++;
 
         for (j = i++; i < size; i++) {
-            if (c.contains(data[i])) {
-                data[j++] = data[i];
+            if (c.contains(data[physicalIndex(i)])) {
+                data[physicalIndex(j++)] = data[physicalIndex(i)];
             }
         }
 
-        size -= i - j;
+        truncate(j);
 
         return true;
     }
@@ -301,15 +397,36 @@ public class CustomArrayList<T> implements List<T> {
 
         sb.append("[");
         for (i = 0; i < size - 1; i++) {
-            sb.append(data[i]);
+            sb.append(data[physicalIndex(i)]);
             sb.append(", ");
         }
-        sb.append(data[i]);
+        sb.append(data[physicalIndex(i)]);
         sb.append("]");
 
         return sb.toString();
     }
 
+    /**
+     * Returns a lazy query whose terminal operations read the backing array
+     * directly.
+     */
+    public Query<T> query() {
+        return new Query<>(sink -> {
+            int expectedModCount = modCount;
+
+            for (int i = 0; i < size; i++) {
+                boolean more = sink.accept((T) data[physicalIndex(i)]);
+
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!more) {
+                    return;
+                }
+            }
+        });
+    }
+
     //Iterator
 
     @Override
@@ -339,7 +456,7 @@ public class CustomArrayList<T> implements List<T> {
             @Override
             public T next() {
                 checkMod();
-                return (T) data[currentIndex++];
+                return (T) data[physicalIndex(currentIndex++)];
             }
 
             @Override
@@ -351,7 +468,7 @@ public class CustomArrayList<T> implements List<T> {
             @Override
             public T previous() {
                 checkMod();
-                return (T) data[--currentIndex];
+                return (T) data[physicalIndex(--currentIndex)];
             }
 
             @Override
@@ -397,6 +514,83 @@ public class CustomArrayList<T> implements List<T> {
 
     //Auxiliary methods
 
+    private int physicalIndex(int index) {
+        int i = head + index;
+
+        return i >= data.length ? i - data.length : i;
+    }
+
+    /**
+     * Copies {@code length} elements starting at logical index {@code from} to
+     * logical index {@code to}. Ranges may overlap and wrap around the buffer.
+     */
+    private void moveRange(int from, int to, int length) {
+        if (length == 0 || from == to) {
+            return;
+        }
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.recordShift(length);
+        }
+
+        int src = physicalIndex(from);
+        int dst = physicalIndex(to);
+
+        if (src + length <= data.length && dst + length <= data.length) {
+            System.arraycopy(data, src, data, dst, length);
+        } else if (from < to) {
+            for (int i = length - 1; i >= 0; i--) {
+                data[physicalIndex(to + i)] = data[physicalIndex(from + i)];
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                data[physicalIndex(to + i)] = data[physicalIndex(from + i)];
+            }
+        }
+    }
+
+    /**
+     * Drops the elements from {@code newSize} on, clearing their slots so
+     * they can be collected.
+     */
+    private void truncate(int newSize) {
+        for (int i = newSize; i < size; i++) {
+            data[physicalIndex(i)] = null;
+        }
+        size = newSize;
+        shrinkIfSparse();
+    }
+
+    private void shrinkIfSparse() {
+        if (shrinkPolicy == ShrinkPolicy.QUARTER_FULL && data.length > DEFAULT_CAPACITY
+                && size < data.length / 4) {
+            reallocate(Math.max(size * 2, DEFAULT_CAPACITY));
+        }
+    }
+
+    /**
+     * Moves the elements into a new array of {@code capacity}, unwrapped.
+     * Not a structural modification. Only growth is recorded as a resize.
+     */
+    private void reallocate(int capacity) {
+        int current = data.length;
+        T[] newData = (T[]) new Object[capacity];
+
+        copyTo(newData, 0);
+        data = newData;
+        head = 0;
+
+        if (CollectionMetrics.ENABLED && capacity > current) {
+            CollectionMetrics.recordResize(this, current, capacity, size);
+        }
+    }
+
+    void copyTo(Object[] dest, int destPos) {
+        int firstPart = Math.min(size, data.length - head);
+
+        System.arraycopy(data, head, dest, destPos, firstPart);
+        System.arraycopy(data, 0, dest, destPos + firstPart, size - firstPart);
+    }
+
     private void checkBoundInclusive(int index) {
         if (index > size || index < 0) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
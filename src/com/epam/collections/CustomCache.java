@@ -0,0 +1,599 @@
+package com.epam.collections;
+
+import java.util.function.Function;
+
+/**
+ * Bounded cache.
+ * Entries sit in doubly linked chains and are found through a
+ * {@link CustomHashMap} from key to entry. Lookups, promotions and evictions
+ * are therefore all constant time, whatever the size. Once the cache is
+ * full, each insertion evicts one entry chosen by the {@link EvictionPolicy}.
+ * Hit, miss and eviction counts are kept per cache. Null keys and values are
+ * not permitted.
+ */
+public class CustomCache<K, V> {
+    private final int maximumSize;
+    private final EvictionPolicy evictionPolicy;
+    private final CustomHashMap<K, Node<K, V>> index;
+    private final Policy<K, V> policy;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entry.
+         */
+        LRU,
+        /**
+         * Evicts the least frequently used entry, and of those the least
+         * recently used one.
+         */
+        LFU,
+        /**
+         * Window TinyLFU: new entries go to a small LRU window. When an entry
+         * leaves the window, it only displaces the main area's LRU victim if
+         * a frequency sketch says it has been accessed more often. The main
+         * area is a segmented LRU with probation and protected parts. Keeps
+         * hit rates high for both recency- and frequency-biased workloads.
+         */
+        W_TINY_LFU
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        Node<K, V> previous;
+        Node<K, V> next;
+        Chain<K, V> owner;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Doubly linked chain of entries, most recently added or promoted first.
+     */
+    private static class Chain<K, V> {
+        Node<K, V> first;
+        Node<K, V> last;
+        int size = 0;
+
+        void addFirst(Node<K, V> n) {
+            n.owner = this;
+            n.previous = null;
+            n.next = first;
+            if (first == null) {
+                last = n;
+            } else {
+                first.previous = n;
+            }
+            first = n;
+            size++;
+        }
+
+        void unlink(Node<K, V> n) {
+            if (n.previous == null) {
+                first = n.next;
+            } else {
+                n.previous.next = n.next;
+            }
+            if (n.next == null) {
+                last = n.previous;
+            } else {
+                n.next.previous = n.previous;
+            }
+            n.previous = n.next = null;
+            n.owner = null;
+            size--;
+        }
+
+        void moveToFront(Node<K, V> n) {
+            if (n != first) {
+                unlink(n);
+                addFirst(n);
+            }
+        }
+
+        void clear() {
+            first = last = null;
+            size = 0;
+        }
+    }
+
+    public CustomCache(int maximumSize, EvictionPolicy evictionPolicy) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size: " + maximumSize);
+        }
+        if (evictionPolicy == null) {
+            throw new NullPointerException();
+        }
+
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        index = new CustomHashMap<>(Math.min(maximumSize, 1 << 16));
+
+        switch (evictionPolicy) {
+            case LFU:
+                policy = new LfuPolicy<>();
+                break;
+            case W_TINY_LFU:
+                policy = new TinyLfuPolicy<>(maximumSize);
+                break;
+            default:
+                policy = new LruPolicy<>();
+        }
+    }
+
+    public CustomCache(int maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public EvictionPolicy evictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * Checks for the key without counting a hit or miss or touching the
+     * eviction order.
+     */
+    public boolean containsKey(Object key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Returns the cached value, or null if there is none, and records the
+     * access with the eviction policy.
+     */
+    public V get(Object key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+
+        policy.recordAccess(key);
+
+        Node<K, V> n = index.get(key);
+
+        if (n == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        policy.onHit(n);
+
+        return n.value;
+    }
+
+    /**
+     * @return the previous value, or null if there was none
+     */
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+
+        policy.recordAccess(key);
+
+        Node<K, V> n = index.get(key);
+
+        if (n != null) {
+            V result = n.value;
+            n.value = value;
+            policy.onHit(n);
+            return result;
+        }
+
+        insert(key, value);
+
+        return null;
+    }
+
+    /**
+     * Returns the cached value, first computing and caching it on a miss.
+     * A null result is not cached.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            if (value != null && !index.containsKey(key)) {
+                insert(key, value);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * @return the removed value, or null if there was none
+     */
+    public V remove(Object key) {
+        Node<K, V> n = index.remove(key);
+
+        if (n == null) {
+            return null;
+        }
+        policy.onRemove(n);
+
+        return n.value;
+    }
+
+    /**
+     * Empties the cache. The statistics are kept.
+     */
+    public void clear() {
+        index.clear();
+        policy.clear();
+    }
+
+    public long hitCount() {
+        return hits;
+    }
+
+    public long missCount() {
+        return misses;
+    }
+
+    public long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the fraction of get calls that found a value, or 1 if there
+     * have been none.
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        boolean[] first = {true};
+
+        sb.append("{");
+        index.forEach((key, node) -> {
+            if (!first[0]) {
+                sb.append(", ");
+            }
+            sb.append(key).append("=").append(node.value);
+            first[0] = false;
+        });
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    //Auxiliary methods
+
+    private void insert(K key, V value) {
+        Node<K, V> n = new Node<>(key, value);
+
+        index.put(key, n);
+        policy.onInsert(n);
+
+        while (index.size() > maximumSize) {
+            Node<K, V> victim = policy.victim();
+
+            policy.onRemove(victim);
+            index.remove(victim.key);
+            evictions++;
+        }
+    }
+
+    //Policies
+
+    private abstract static class Policy<K, V> {
+        void recordAccess(Object key) {}
+
+        abstract void onInsert(Node<K, V> n);
+
+        abstract void onHit(Node<K, V> n);
+
+        void onRemove(Node<K, V> n) {
+            n.owner.unlink(n);
+        }
+
+        /**
+         * Picks the entry to evict, leaving it linked.
+         */
+        abstract Node<K, V> victim();
+
+        abstract void clear();
+    }
+
+    private static final class LruPolicy<K, V> extends Policy<K, V> {
+        private final Chain<K, V> chain = new Chain<>();
+
+        @Override
+        void onInsert(Node<K, V> n) {
+            chain.addFirst(n);
+        }
+
+        @Override
+        void onHit(Node<K, V> n) {
+            chain.moveToFront(n);
+        }
+
+        @Override
+        Node<K, V> victim() {
+            return chain.last;
+        }
+
+        @Override
+        void clear() {
+            chain.clear();
+        }
+    }
+
+    /**
+     * Entries with the same use count, in LRU order.
+     */
+    private static final class Bucket<K, V> extends Chain<K, V> {
+        final long frequency;
+        Bucket<K, V> previousBucket;
+        Bucket<K, V> nextBucket;
+
+        Bucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    /**
+     * Constant-time LFU. Buckets of entries with equal use counts form a
+     * chain in ascending order of count. A hit moves the entry into the
+     * bucket after its own, creating that bucket if the count is new. The
+     * victim is the oldest entry of the first bucket, other than the entry
+     * being inserted.
+     */
+    private static final class LfuPolicy<K, V> extends Policy<K, V> {
+        private Bucket<K, V> lowest;
+        private Node<K, V> newest;
+
+        @Override
+        void onInsert(Node<K, V> n) {
+            if (lowest == null || lowest.frequency != 1) {
+                Bucket<K, V> b = new Bucket<>(1);
+
+                b.nextBucket = lowest;
+                if (lowest != null) {
+                    lowest.previousBucket = b;
+                }
+                lowest = b;
+            }
+            lowest.addFirst(n);
+            newest = n;
+        }
+
+        @Override
+        void onHit(Node<K, V> n) {
+            Bucket<K, V> b = (Bucket<K, V>) n.owner;
+            Bucket<K, V> next = b.nextBucket;
+
+            if (next == null || next.frequency != b.frequency + 1) {
+                next = new Bucket<>(b.frequency + 1);
+                next.previousBucket = b;
+                next.nextBucket = b.nextBucket;
+                if (b.nextBucket != null) {
+                    b.nextBucket.previousBucket = next;
+                }
+                b.nextBucket = next;
+            }
+
+            b.unlink(n);
+            next.addFirst(n);
+            if (b.size == 0) {
+                removeBucket(b);
+            }
+        }
+
+        @Override
+        void onRemove(Node<K, V> n) {
+            Bucket<K, V> b = (Bucket<K, V>) n.owner;
+
+            b.unlink(n);
+            if (b.size == 0) {
+                removeBucket(b);
+            }
+        }
+
+        @Override
+        Node<K, V> victim() {
+            // The new entry is alone in the first bucket only if every other
+            // entry has been used more than once.
+            return lowest.last != newest ? lowest.last : lowest.nextBucket.last;
+        }
+
+        @Override
+        void clear() {
+            lowest = null;
+            newest = null;
+        }
+
+        private void removeBucket(Bucket<K, V> b) {
+            if (b.previousBucket == null) {
+                lowest = b.nextBucket;
+            } else {
+                b.previousBucket.nextBucket = b.nextBucket;
+            }
+            if (b.nextBucket != null) {
+                b.nextBucket.previousBucket = b.previousBucket;
+            }
+        }
+    }
+
+    private static final class TinyLfuPolicy<K, V> extends Policy<K, V> {
+        private final Chain<K, V> window = new Chain<>();
+        private final Chain<K, V> probation = new Chain<>();
+        private final Chain<K, V> protect = new Chain<>();
+        private final int windowMax;
+        private final int protectedMax;
+        private final FrequencySketch sketch;
+        // Entry the latest insertion pushed out of the window, if any.
+        private Node<K, V> candidate;
+
+        TinyLfuPolicy(int maximumSize) {
+            windowMax = Math.max(1, maximumSize / 100);
+            protectedMax = (maximumSize - windowMax) * 4 / 5;
+            sketch = new FrequencySketch(maximumSize);
+        }
+
+        @Override
+        void recordAccess(Object key) {
+            sketch.increment(key);
+        }
+
+        /**
+         * Adds the entry to the window and moves the window's LRU entry into
+         * probation if the window is over its share.
+         */
+        @Override
+        void onInsert(Node<K, V> n) {
+            window.addFirst(n);
+            candidate = null;
+            if (window.size > windowMax) {
+                candidate = window.last;
+                window.unlink(candidate);
+                probation.addFirst(candidate);
+            }
+        }
+
+        @Override
+        void onHit(Node<K, V> n) {
+            if (n.owner == probation) {
+                probation.unlink(n);
+                protect.addFirst(n);
+                if (protect.size > protectedMax) {
+                    Node<K, V> demoted = protect.last;
+
+                    protect.unlink(demoted);
+                    probation.addFirst(demoted);
+                }
+            } else {
+                n.owner.moveToFront(n);
+            }
+        }
+
+        /**
+         * Lets the entry just pushed out of the window compete with
+         * probation's LRU entry. The one accessed less often loses.
+         */
+        @Override
+        Node<K, V> victim() {
+            Node<K, V> victim = probation.last != null ? probation.last : protect.last;
+            Node<K, V> c = candidate;
+
+            candidate = null;
+            if (victim == null) {
+                return window.last;
+            }
+            if (c == null || victim == c) {
+                return victim;
+            }
+
+            return sketch.frequency(c.key) > sketch.frequency(victim.key) ? victim : c;
+        }
+
+        @Override
+        void clear() {
+            window.clear();
+            probation.clear();
+            protect.clear();
+            candidate = null;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters, sixteen to a long, with four
+     * counters per key. All counters are halved once the number of
+     * increments reaches ten times the cache size, so old popularity fades.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int maximumSize) {
+            int capacity = Math.max(16, Math.min(maximumSize, 1 << 24));
+
+            table = new long[Integer.highestOneBit(capacity - 1) << 1];
+            mask = table.length - 1;
+            sampleSize = 10 * capacity;
+        }
+
+        int frequency(Object key) {
+            int h = spread(key.hashCode());
+            int frequency = 15;
+
+            for (int i = 0; i < 4; i++) {
+                long x = slot(h, i);
+
+                frequency = Math.min(frequency, (int) (table[(int) x & mask] >>> offset(x)) & 15);
+            }
+
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int h = spread(key.hashCode());
+
+            for (int i = 0; i < 4; i++) {
+                long x = slot(h, i);
+                int j = (int) x & mask;
+                int offset = offset(x);
+
+                if (((table[j] >>> offset) & 15) != 15) {
+                    table[j] += 1L << offset;
+                }
+            }
+
+            if (++additions >= sampleSize) {
+                for (int j = 0; j < table.length; j++) {
+                    table[j] = (table[j] >>> 1) & RESET_MASK;
+                }
+                additions /= 2;
+            }
+        }
+
+        private static int spread(int h) {
+            h *= 0x9E3779B9;
+
+            return h ^ (h >>> 16);
+        }
+
+        private static long slot(int h, int i) {
+            long x = (h + SEEDS[i]) * SEEDS[i];
+
+            return x ^ (x >>> 32);
+        }
+
+        private static int offset(long x) {
+            return ((int) (x >>> 40) & 15) << 2;
+        }
+    }
+}
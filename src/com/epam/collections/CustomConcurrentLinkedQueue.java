@@ -0,0 +1,427 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Custom lock-free linked queue implementation.
+ * A Michael-Scott queue: producers link new nodes after the tail and consumers
+ * advance the head with CAS, so any number of threads may offer and poll
+ * concurrently. Polled and removed nodes are marked by clearing their item.
+ * The size is kept in a striped counter and is only approximate while other
+ * threads are modifying the queue. Null elements are not permitted.
+ */
+public class CustomConcurrentLinkedQueue<T> implements Queue<T> {
+    private static final AtomicReferenceFieldUpdater<CustomConcurrentLinkedQueue, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(CustomConcurrentLinkedQueue.class, Node.class, "head");
+    private static final AtomicReferenceFieldUpdater<CustomConcurrentLinkedQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(CustomConcurrentLinkedQueue.class, Node.class, "tail");
+
+    // head is a dummy node, the first element lives in head.next
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+    private final LongAdder count = new LongAdder();
+
+    private static final class Node<T> {
+        private static final AtomicReferenceFieldUpdater<Node, Object> ITEM =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "item");
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        private volatile T item;
+        private volatile Node<T> next;
+
+        public Node(T item) {
+            this.item = item;
+        }
+
+        private boolean casItem(T expected, T item) {
+            return ITEM.compareAndSet(this, expected, item);
+        }
+
+        private boolean casNext(Node<T> expected, Node<T> next) {
+            return NEXT.compareAndSet(this, expected, next);
+        }
+    }
+
+    public CustomConcurrentLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    public CustomConcurrentLinkedQueue(Collection<? extends T> c) {
+        this();
+        addAll(c);
+    }
+
+    @Override
+    public boolean offer(T o) {
+        Node<T> node = new Node<>(checkNotNull(o));
+
+        link(node, node);
+        count.increment();
+
+        return true;
+    }
+
+    @Override
+    public boolean add(T o) {
+        return offer(o);
+    }
+
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> h = head;
+            Node<T> first = h.next;
+
+            if (first == null) {
+                return null;
+            }
+
+            T item = first.item;
+
+            if (item != null && first.casItem(item, null)) {
+                HEAD.compareAndSet(this, h, first);
+                count.decrement();
+                return item;
+            }
+
+            // Item already taken, help moving the head past it.
+            HEAD.compareAndSet(this, h, first);
+        }
+    }
+
+    @Override
+    public T remove() {
+        T item = poll();
+
+        if (item == null) {
+            throw new NoSuchElementException();
+        }
+
+        return item;
+    }
+
+    @Override
+    public T peek() {
+        while (true) {
+            Node<T> h = head;
+            Node<T> first = h.next;
+
+            if (first == null) {
+                return null;
+            }
+
+            T item = first.item;
+
+            if (item != null) {
+                return item;
+            }
+
+            HEAD.compareAndSet(this, h, first);
+        }
+    }
+
+    @Override
+    public T element() {
+        T item = peek();
+
+        if (item == null) {
+            throw new NoSuchElementException();
+        }
+
+        return item;
+    }
+
+    /**
+     * Returns the number of elements. The count is exact only while no other
+     * thread modifies the queue.
+     */
+    @Override
+    public int size() {
+        long sum = count.sum();
+
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, sum));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        for (Node<T> n = head.next; n != null; n = n.next) {
+            T item = n.item;
+
+            if (item != null && o.equals(item)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        Node<T> previous = head;
+
+        for (Node<T> n = previous.next; n != null; previous = n, n = n.next) {
+            T item = n.item;
+
+            if (item != null && o.equals(item) && n.casItem(item, null)) {
+                count.decrement();
+
+                // Unlink when it is not the tail; a cleared tail is skipped
+                // later by poll.
+                Node<T> next = n.next;
+                if (next != null) {
+                    previous.casNext(n, next);
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Links all elements of {@code c} with a single CAS on the tail, so they
+     * appear in the queue as one contiguous batch.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        Node<T> first = null;
+        Node<T> last = null;
+        int added = 0;
+
+        for (T o : c) {
+            Node<T> node = new Node<>(checkNotNull(o));
+
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            added++;
+        }
+
+        if (first == null) {
+            return false;
+        }
+
+        link(first, last);
+        count.add(added);
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (isEmpty()) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        return filter(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        return filter(c, true);
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // drain
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        return snapshot().toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    /**
+     * Returns a weakly consistent iterator: it never throws
+     * {@link ConcurrentModificationException} and reflects some of the
+     * modifications made after its creation.
+     */
+    @Override
+    public Iterator<T> iterator() {
+
+        return new Iterator<T>() {
+            // The next node and its item, read once together so that a
+            // concurrent poll cannot make hasNext and next disagree.
+            private Node<T> next;
+            private T nextItem;
+            private Node<T> lastReturned;
+            private T lastItem;
+
+            {
+                advance(head);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = next;
+                lastItem = nextItem;
+                advance(next);
+
+                return lastItem;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                if (lastReturned.casItem(lastItem, null)) {
+                    count.decrement();
+                }
+                lastReturned = null;
+            }
+
+            // Moves to the next node after n that still holds an item.
+            private void advance(Node<T> n) {
+                for (n = n.next; n != null; n = n.next) {
+                    T item = n.item;
+
+                    if (item != null) {
+                        next = n;
+                        nextItem = item;
+                        return;
+                    }
+                }
+
+                next = null;
+                nextItem = null;
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    /**
+     * Appends the already linked chain {@code first..last} after the tail.
+     */
+    private void link(Node<T> first, Node<T> last) {
+        while (true) {
+            Node<T> t = tail;
+            Node<T> next = t.next;
+
+            if (t != tail) {
+                continue;
+            }
+
+            if (next == null) {
+                if (t.casNext(null, first)) {
+                    TAIL.compareAndSet(this, t, last);
+                    return;
+                }
+            } else {
+                // Tail is lagging behind, help moving it forward.
+                TAIL.compareAndSet(this, t, next);
+            }
+        }
+    }
+
+    private boolean filter(Collection c, boolean retain) {
+        boolean modified = false;
+
+        for (Node<T> n = head.next; n != null; n = n.next) {
+            T item = n.item;
+
+            if (item != null && c.contains(item) != retain && n.casItem(item, null)) {
+                count.decrement();
+                modified = true;
+            }
+        }
+
+        return modified;
+    }
+
+    private CustomArrayList<T> snapshot() {
+        CustomArrayList<T> list = new CustomArrayList<>();
+
+        for (Node<T> n = head.next; n != null; n = n.next) {
+            T item = n.item;
+
+            if (item != null) {
+                list.add(item);
+            }
+        }
+
+        return list;
+    }
+
+    private static <T> T checkNotNull(T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+
+        return o;
+    }
+}
@@ -0,0 +1,637 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Custom hash map implementation.
+ * Keys, values and cached key hashes are kept in three parallel arrays and
+ * placed by Robin Hood linear probing: an entry that is further from its home
+ * slot takes the place of one that is closer, which keeps probe sequences
+ * short and lets a failed lookup stop as soon as it passes entries closer to
+ * home than itself. Removal shifts the rest of the run back, leaving no
+ * tombstones. Entries are never allocated: {@link #forEach} and
+ * {@link #cursor()} walk the arrays directly. {@link #entrySet()},
+ * {@link #keySet()} and {@link #values()} are read-only views backed by the
+ * map; change it through its own methods, {@link #replaceAll} or
+ * {@link Cursor#setValue}. Null keys and values are not permitted.
+ */
+public class CustomHashMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size = 0;
+    private int modCount = 0;
+
+    /**
+     * Forward-only position over the entries. Reads the arrays in place, so
+     * advancing allocates nothing.
+     */
+    public final class Cursor {
+        private final int modCount = CustomHashMap.this.modCount;
+        private int slot = -1;
+
+        private Cursor() {}
+
+        /**
+         * Moves to the next entry.
+         *
+         * @return false if there are no more entries
+         */
+        public boolean advance() {
+            if (modCount != CustomHashMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            while (++slot < keys.length) {
+                if (keys[slot] != null) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        public K key() {
+            return (K) keys[checkSlot()];
+        }
+
+        public V value() {
+            return (V) values[checkSlot()];
+        }
+
+        public V setValue(V value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+
+            int i = checkSlot();
+            V result = (V) values[i];
+            values[i] = value;
+
+            return result;
+        }
+
+        private int checkSlot() {
+            if (slot < 0 || slot >= keys.length) {
+                throw new NoSuchElementException();
+            }
+
+            return slot;
+        }
+    }
+
+    /**
+     * Iterator over the occupied slots for the read-only views.
+     */
+    private abstract class SlotIterator<E> implements Iterator<E> {
+        private final int modCount = CustomHashMap.this.modCount;
+        private int slot = -1;
+        private int remaining = size;
+
+        abstract E at(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != CustomHashMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+
+            do {
+                slot++;
+            } while (keys[slot] == null);
+
+            return at(slot);
+        }
+    }
+
+    public CustomHashMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor: " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor((int) Math.ceil(initialCapacity / loadFactor)));
+    }
+
+    public CustomHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashMap(Map<? extends K, ? extends V> m) {
+        this(Math.max(m.size(), DEFAULT_CAPACITY), DEFAULT_LOAD_FACTOR);
+        putAll(m);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && slotOf(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (value != null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null && value.equals(values[i])) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+
+        int i = slotOf(key, hash(key));
+
+        return i < 0 ? null : (V) values[i];
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        V result = get(key);
+
+        return result == null ? defaultValue : result;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+
+        int h = hash(key);
+        int i = slotOf(key, h);
+
+        if (i >= 0) {
+            V result = (V) values[i];
+            values[i] = value;
+            return result;
+        }
+
+        insert(key, value, h);
+
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+
+        int i = slotOf(key, hash(key));
+
+        if (i < 0) {
+            return null;
+        }
+
+        V result = (V) values[i];
+        removeSlot(i);
+
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        int needed = size + m.size();
+
+        if (needed > threshold) {
+            resize(tableSizeFor((int) Math.ceil(needed / loadFactor)));
+        }
+
+        if (m instanceof CustomHashMap) {
+            ((CustomHashMap<? extends K, ? extends V>) m).forEach(this::put);
+        } else {
+            for (Map.Entry<? extends K, ? extends V> e : m.entrySet()) {
+                put(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            Arrays.fill(values, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * Looks the key up once and, if it is absent, inserts the computed value
+     * with the hash computed for the lookup. The insertion itself probes
+     * again from the home slot.
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+
+        int h = hash(key);
+        int i = slotOf(key, h);
+
+        if (i >= 0) {
+            return (V) values[i];
+        }
+
+        int expectedModCount = modCount;
+        V value = mappingFunction.apply(key);
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value != null) {
+            insert(key, value, h);
+        }
+
+        return value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+
+        int h = hash(key);
+        int i = slotOf(key, h);
+
+        if (i < 0) {
+            insert(key, value, h);
+            return value;
+        }
+
+        int expectedModCount = modCount;
+        V newValue = remappingFunction.apply((V) values[i], value);
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (newValue == null) {
+            removeSlot(i);
+        } else {
+            values[i] = newValue;
+        }
+
+        return newValue;
+    }
+
+    /**
+     * Passes every entry to {@code action} straight from the arrays, without
+     * allocating.
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept((K) keys[i], (V) values[i]);
+            }
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Replaces every value in place, without allocating.
+     */
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        int expectedModCount = modCount;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                V value = function.apply((K) keys[i], (V) values[i]);
+
+                if (value == null) {
+                    throw new NullPointerException();
+                }
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                values[i] = value;
+            }
+        }
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Returns a read-only view of the keys.
+     */
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public Iterator<K> iterator() {
+                return new SlotIterator<K>() {
+                    @Override
+                    K at(int slot) {
+                        return (K) keys[slot];
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a read-only view of the values.
+     */
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsValue(o);
+            }
+
+            @Override
+            public Iterator<V> iterator() {
+                return new SlotIterator<V>() {
+                    @Override
+                    V at(int slot) {
+                        return (V) values[slot];
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a read-only view of the entries. Each entry is a snapshot
+     * allocated by the iterator.
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+
+                Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                Object value = get(e.getKey());
+
+                return value != null && value.equals(e.getValue());
+            }
+
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new SlotIterator<Map.Entry<K, V>>() {
+                    @Override
+                    Map.Entry<K, V> at(int slot) {
+                        return new AbstractMap.SimpleImmutableEntry<>((K) keys[slot], (V) values[slot]);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Compares with any {@link Map} by its mappings, as {@link Map#equals}
+     * specifies.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Map)) {
+            return false;
+        }
+
+        Map<?, ?> m = (Map<?, ?>) o;
+
+        if (m.size() != size) {
+            return false;
+        }
+
+        try {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null && !values[i].equals(m.get(keys[i]))) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException | NullPointerException e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                h += keys[i].hashCode() ^ values[i].hashCode();
+            }
+        }
+
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        boolean first = true;
+
+        sb.append("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(keys[i]).append("=").append(values[i]);
+                first = false;
+            }
+        }
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    //Auxiliary methods
+
+    private static int hash(Object o) {
+        int h = o.hashCode() * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+
+        return Math.max(2, Integer.highestOneBit(capacity - 1 | 1) << 1);
+    }
+
+    /**
+     * Distance of the entry in slot {@code i} from its home slot.
+     */
+    private int distance(int i) {
+        return (i - hashes[i]) & mask;
+    }
+
+    private int slotOf(Object key, int h) {
+        int i = h & mask;
+
+        for (int d = 0; keys[i] != null && d <= distance(i); d++, i = (i + 1) & mask) {
+            if (hashes[i] == h && key.equals(keys[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Inserts a key known to be absent, displacing entries that are closer
+     * to their home slot than the one being placed.
+     */
+    private void insert(Object key, Object value, int h) {
+        if (size >= threshold) {
+            resize(keys.length << 1);
+        }
+
+        int i = h & mask;
+
+        for (int d = 0; keys[i] != null; d++, i = (i + 1) & mask) {
+            int existing = distance(i);
+
+            if (existing < d) {
+                Object k = keys[i];
+                Object v = values[i];
+                int eh = hashes[i];
+
+                keys[i] = key;
+                values[i] = value;
+                hashes[i] = h;
+                key = k;
+                value = v;
+                h = eh;
+                d = existing;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        hashes[i] = h;
+        size++;
+        modCount++;
+    }
+
+    private void removeSlot(int i) {
+        int next = (i + 1) & mask;
+
+        while (keys[next] != null && distance(next) > 0) {
+            keys[i] = keys[next];
+            values[i] = values[next];
+            hashes[i] = hashes[next];
+            i = next;
+            next = (next + 1) & mask;
+        }
+
+        keys[i] = null;
+        values[i] = null;
+        size--;
+        modCount++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * loadFactor);
+    }
+
+    private void resize(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        allocate(capacity);
+        size = 0;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != null) {
+                insert(oldKeys[j], oldValues[j], oldHashes[j]);
+            }
+        }
+    }
+}
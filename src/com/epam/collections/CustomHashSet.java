@@ -0,0 +1,394 @@
+package com.epam.collections;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Custom hash set implementation.
+ * Open addressing with linear probing over two flat arrays, the elements and
+ * their cached hashes, so adding an element allocates nothing and probing
+ * compares hashes before calling equals. Removal shifts the following
+ * elements of the probe run back instead of leaving tombstones, so lookups
+ * never slow down after deletes. The table doubles when the load factor is
+ * reached. Iteration order is unspecified. Null elements are not permitted.
+ */
+public class CustomHashSet<T> implements Set<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private Object[] keys;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size = 0;
+    private int modCount = 0;
+
+    public CustomHashSet(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor: " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor((int) Math.ceil(initialCapacity / loadFactor)));
+    }
+
+    public CustomHashSet(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashSet(Collection<? extends T> c) {
+        this(Math.max(c.size(), DEFAULT_CAPACITY), DEFAULT_LOAD_FACTOR);
+        addAll(c);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && slotOf(o, hash(o)) >= 0;
+    }
+
+    @Override
+    public boolean add(T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+
+        int h = hash(o);
+        int i = h & mask;
+
+        for (Object k; (k = keys[i]) != null; i = (i + 1) & mask) {
+            if (hashes[i] == h && o.equals(k)) {
+                return false;
+            }
+        }
+
+        keys[i] = o;
+        hashes[i] = h;
+        modCount++;
+        if (++size > threshold) {
+            resize(keys.length << 1);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        int slot = slotOf(o, hash(o));
+
+        if (slot < 0) {
+            return false;
+        }
+        removeSlot(slot, -1, null);
+
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        int needed = size + c.size();
+
+        if (needed > threshold) {
+            resize(tableSizeFor((int) Math.ceil(needed / loadFactor)));
+        }
+
+        boolean modified = false;
+
+        for (T o : c) {
+            modified |= add(o);
+        }
+
+        return modified;
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (size == 0) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        boolean modified = false;
+
+        if (c.size() < size) {
+            for (Object o : c) {
+                modified |= remove(o);
+            }
+            return modified;
+        }
+
+        Iterator<T> iterator = iterator();
+
+        while (iterator.hasNext()) {
+            if (c.contains(iterator.next())) {
+                iterator.remove();
+                modified = true;
+            }
+        }
+
+        return modified;
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        boolean modified = false;
+        Iterator<T> iterator = iterator();
+
+        while (iterator.hasNext()) {
+            if (!c.contains(iterator.next())) {
+                iterator.remove();
+                modified = true;
+            }
+        }
+
+        return modified;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] a = new Object[size];
+        copyTo(a, 0);
+
+        return a;
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        if (a.length < size) {
+            a = (S[]) Array.newInstance(a.getClass().getComponentType(), size);
+        } else if (a.length > size) {
+            a[size] = null;
+        }
+        copyTo(a, 0);
+
+        return a;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    /**
+     * Returns an iterator that scans the table from the last slot down. A
+     * backward shift caused by remove() only moves elements towards lower
+     * slots, i.e. from the visited into the visited part, except for runs
+     * that wrap around the end of the table; elements moved that way are kept
+     * aside and returned at the end.
+     */
+    @Override
+    public Iterator<T> iterator() {
+
+        return new Iterator<T>() {
+            private int modCount = CustomHashSet.this.modCount;
+            private int slot = keys.length;
+            private int remaining = size;
+            private int lastSlot = -1;
+            private T lastReturned;
+            private CustomArrayList<T> wrapped;
+
+            private void checkMod() {
+                if (modCount != CustomHashSet.this.modCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public T next() {
+                checkMod();
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+
+                while (--slot >= 0) {
+                    if (keys[slot] != null) {
+                        lastSlot = slot;
+                        return lastReturned = (T) keys[slot];
+                    }
+                }
+
+                lastSlot = -1;
+                return lastReturned = wrapped.remove(wrapped.size() - 1);
+            }
+
+            @Override
+            public void remove() {
+                checkMod();
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                if (lastSlot >= 0) {
+                    if (wrapped == null) {
+                        wrapped = new CustomArrayList<>();
+                    }
+                    removeSlot(lastSlot, lastSlot, wrapped);
+                } else {
+                    CustomHashSet.this.remove(lastReturned);
+                }
+
+                modCount = CustomHashSet.this.modCount;
+                lastReturned = null;
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    void copyTo(Object[] dest, int destPos) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                dest[destPos++] = keys[i];
+            }
+        }
+    }
+
+    private static int hash(Object o) {
+        int h = o.hashCode() * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+
+        return Math.max(2, Integer.highestOneBit(capacity - 1 | 1) << 1);
+    }
+
+    private int slotOf(Object o, int h) {
+        for (int i = h & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (hashes[i] == h && o.equals(keys[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Empties {@code gap} and moves back every later element of the probe run
+     * that would otherwise become unreachable. Elements moved from below
+     * {@code fence} to at or above it are added to {@code moved}.
+     */
+    private void removeSlot(int gap, int fence, CustomArrayList<T> moved) {
+        int i = gap;
+
+        while (true) {
+            i = (i + 1) & mask;
+            if (keys[i] == null) {
+                break;
+            }
+
+            // Move the element if its home slot is not within (gap, i].
+            int home = hashes[i] & mask;
+
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                if (moved != null && i < fence && gap >= fence) {
+                    moved.add((T) keys[i]);
+                }
+                keys[gap] = keys[i];
+                hashes[gap] = hashes[i];
+                gap = i;
+            }
+        }
+
+        keys[gap] = null;
+        size--;
+        modCount++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * loadFactor);
+    }
+
+    private void resize(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != null) {
+                int i = oldHashes[j] & mask;
+
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                hashes[i] = oldHashes[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,558 @@
+package com.epam.collections;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Custom indexable skip list implementation.
+ * A positional list kept as a skip list whose forward links also store their
+ * width, the number of positions they jump over. Access, insertion and removal
+ * by index take expected O(log n) by descending the levels and summing widths,
+ * while iteration simply walks the bottom level like a linked list.
+ */
+public class CustomIndexedSkipList<T> implements List<T> {
+    private static final int MAX_LEVEL = 32;
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size = 0;
+    private int modCount = 0;
+    private long seed = System.nanoTime() | 1;
+
+    // Scratch arrays for the predecessors found by a search and their indexes.
+    private final Node<T>[] update = new Node[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /**
+     * Node at some index i. For every level l below its height, width[l] is
+     * the index of next[l] minus i, where a missing next node counts as index
+     * size.
+     */
+    private static final class Node<T> {
+        private T value;
+        private final Node<T>[] next;
+        private final int[] width;
+
+        public Node(T value, int height) {
+            this.value = value;
+            this.next = new Node[height];
+            this.width = new int[height];
+        }
+
+        @Override
+        public String toString() {
+            if (value != null) {
+                return value.toString();
+            }
+            return null;
+        }
+    }
+
+    public CustomIndexedSkipList() {
+        head.width[0] = 1;
+    }
+
+    public CustomIndexedSkipList(Collection<? extends T> c) {
+        Object[] a = c.toArray();
+        build(a, a.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+
+        for (Node<T> x = head.next[0]; x != null; x = x.next[0], index++) {
+            if (o.equals(x.value)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = 0;
+        int found = -1;
+
+        for (Node<T> x = head.next[0]; x != null; x = x.next[0], index++) {
+            if (o.equals(x.value)) {
+                found = index;
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array, 0);
+
+        return array;
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        if (a.length < size) {
+            a = (S[]) Array.newInstance(a.getClass().getComponentType(), size);
+        } else if (a.length > size) {
+            a[size] = null;
+        }
+        copyTo(a, 0);
+
+        return a;
+    }
+
+    @Override
+    public T get(int index) {
+        checkBoundExclusive(index);
+        return node(index).value;
+    }
+
+    @Override
+    public T set(int index, T o) {
+        checkBoundExclusive(index);
+        Node<T> x = node(index);
+        T result = x.value;
+        x.value = o;
+
+        return result;
+    }
+
+    @Override
+    public boolean add(T o) {
+        add(size, o);
+
+        return true;
+    }
+
+    @Override
+    public void add(int index, T o) {
+        checkBoundInclusive(index);
+        findPredecessors(index);
+
+        int height = randomLevel();
+
+        if (height > level) {
+            for (int l = level; l < height; l++) {
+                update[l] = head;
+                rank[l] = -1;
+                head.next[l] = null;
+                head.width[l] = size + 1;
+            }
+            level = height;
+        }
+
+        Node<T> x = new Node<>(o, height);
+
+        for (int l = 0; l < height; l++) {
+            Node<T> p = update[l];
+
+            x.next[l] = p.next[l];
+            x.width[l] = rank[l] + p.width[l] + 1 - index;
+            p.next[l] = x;
+            p.width[l] = index - rank[l];
+        }
+        for (int l = height; l < level; l++) {
+            update[l].width[l]++;
+        }
+
+        modCount++;
+        size++;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkBoundExclusive(index);
+        findPredecessors(index);
+
+        Node<T> x = update[0].next[0];
+
+        for (int l = 0; l < level; l++) {
+            Node<T> p = update[l];
+
+            if (p.next[l] == x) {
+                p.width[l] += x.width[l] - 1;
+                p.next[l] = x.next[l];
+            } else {
+                p.width[l]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        modCount++;
+        size--;
+
+        return x.value;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+            build(new Object[0], 0);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        checkBoundInclusive(index);
+        Object[] a = c.toArray();
+
+        if (a.length == 0) {
+            return false;
+        }
+
+        if (a.length < size) {
+            for (Object o : a) {
+                add(index++, (T) o);
+            }
+        } else {
+            // Large batch: rebuild all levels in one linear pass.
+            Object[] all = new Object[size + a.length];
+            copyTo(all, 0);
+            System.arraycopy(all, index, all, index + a.length, size - index);
+            System.arraycopy(a, 0, all, index, a.length);
+            build(all, all.length);
+        }
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Lower index: " + fromIndex +
+                                               " bigger than upper index: " + toIndex);
+        }
+
+        checkBoundInclusive(fromIndex);
+        checkBoundInclusive(toIndex);
+
+        Object[] a = new Object[toIndex - fromIndex];
+        Node<T> x = node(fromIndex);
+
+        for (int i = 0; i < a.length; i++, x = x.next[0]) {
+            a[i] = x.value;
+        }
+
+        CustomIndexedSkipList<T> newList = new CustomIndexedSkipList<>();
+        newList.build(a, a.length);
+
+        return newList;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        return filter(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        return filter(c, true);
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (size == 0) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator that walks forward along the bottom level.
+     * Stepping backwards costs a search, O(log n).
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        checkBoundInclusive(index);
+
+        return new ListIterator<T>() {
+            private int modCount = CustomIndexedSkipList.this.modCount;
+            private Node<T> next = index < size ? node(index) : null;
+            private int position = index;
+            private Node<T> lastReturned;
+            private int lastIndex = -1;
+
+            private void checkMod() {
+                if (modCount != CustomIndexedSkipList.this.modCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public T next() {
+                checkMod();
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = next;
+                lastIndex = position++;
+                next = next.next[0];
+
+                return lastReturned.value;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return position > 0;
+            }
+
+            @Override
+            public T previous() {
+                checkMod();
+                if (position == 0) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = next = node(--position);
+                lastIndex = position;
+
+                return lastReturned.value;
+            }
+
+            @Override
+            public int nextIndex() {
+                return position;
+            }
+
+            @Override
+            public int previousIndex() {
+                return position - 1;
+            }
+
+            @Override
+            public void remove() {
+                checkMod();
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                if (lastReturned == next) { // returned by previous()
+                    next = next.next[0];
+                } else {
+                    position--;
+                }
+                CustomIndexedSkipList.this.remove(lastIndex);
+                modCount = CustomIndexedSkipList.this.modCount;
+                lastReturned = null;
+            }
+
+            @Override
+            public void set(T o) {
+                checkMod();
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                lastReturned.value = o;
+            }
+
+            @Override
+            public void add(T o) {
+                checkMod();
+                CustomIndexedSkipList.this.add(position++, o);
+                modCount = CustomIndexedSkipList.this.modCount;
+                lastReturned = null;
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    void copyTo(Object[] dest, int destPos) {
+        for (Node<T> x = head.next[0]; x != null; x = x.next[0]) {
+            dest[destPos++] = x.value;
+        }
+    }
+
+    private Node<T> node(int index) {
+        Node<T> x = head;
+        int position = -1;
+
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && position + x.width[l] <= index) {
+                position += x.width[l];
+                x = x.next[l];
+            }
+        }
+
+        return x;
+    }
+
+    /**
+     * Fills update and rank with the last node before {@code index} on every
+     * level and its index.
+     */
+    private void findPredecessors(int index) {
+        Node<T> x = head;
+        int position = -1;
+
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && position + x.width[l] < index) {
+                position += x.width[l];
+                x = x.next[l];
+            }
+            update[l] = x;
+            rank[l] = position;
+        }
+    }
+
+    /**
+     * Geometric level with p = 1/4, from a xorshift generator.
+     */
+    private int randomLevel() {
+        long r = seed;
+        r ^= r << 13;
+        r ^= r >>> 7;
+        r ^= r << 17;
+        seed = r;
+
+        return Math.min(MAX_LEVEL, 1 + Long.numberOfTrailingZeros(r) / 2);
+    }
+
+    /**
+     * Replaces the content with the first {@code count} elements of
+     * {@code a}, linking every level in a single pass.
+     */
+    private void build(Object[] a, int count) {
+        Node<T>[] lastNode = update;
+        int[] lastIndex = rank;
+
+        Arrays.fill(lastNode, head);
+        Arrays.fill(lastIndex, -1);
+        Arrays.fill(head.next, null);
+        level = 1;
+
+        for (int i = 0; i < count; i++) {
+            int height = randomLevel();
+            Node<T> x = new Node<>((T) a[i], height);
+
+            for (int l = 0; l < height; l++) {
+                lastNode[l].next[l] = x;
+                lastNode[l].width[l] = i - lastIndex[l];
+                lastNode[l] = x;
+                lastIndex[l] = i;
+            }
+            level = Math.max(level, height);
+        }
+        for (int l = 0; l < level; l++) {
+            lastNode[l].width[l] = count - lastIndex[l];
+        }
+
+        size = count;
+    }
+
+    private boolean filter(Collection c, boolean retain) {
+        Object[] kept = new Object[size];
+        int count = 0;
+
+        for (Node<T> x = head.next[0]; x != null; x = x.next[0]) {
+            if (c.contains(x.value) == retain) {
+                kept[count++] = x.value;
+            }
+        }
+
+        if (count == size) {
+            return false;
+        }
+
+        build(kept, count);
+        modCount++;
+
+        return true;
+    }
+
+    private void checkBoundInclusive(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkBoundExclusive(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,633 @@
+package com.epam.collections;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Custom durable queue implementation.
+ * A FIFO queue held in a {@link CustomLinkedList} whose offers and polls are
+ * also appended to a segmented log in a directory. Every offered element gets
+ * a sequence number; an OFFER record stores it with the encoded element and a
+ * POLL record stores the highest sequence consumed so far. Records carry a
+ * CRC32C so a torn tail is detected and cut off when the log is replayed on
+ * startup.
+ *
+ * Writes are buffered and a background thread flushes and fsyncs them every
+ * sync interval (group commit), so an operation becomes durable at the next
+ * sync rather than when it returns; {@link #sync()} forces it immediately.
+ * After a crash, elements polled since the last sync are delivered again. The
+ * same thread deletes sealed segments once all their offers have been
+ * consumed.
+ *
+ * All operations are thread-safe. Only the head can be removed: remove(Object),
+ * removeAll and retainAll are not supported. Null elements are not permitted.
+ */
+public class CustomJournaledQueue<T> implements Queue<T>, Closeable {
+    private static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 10;
+    private static final int BUFFER_SIZE = 64 << 10;
+    private static final int MAGIC = 0x4A524E4C; // "JRNL"
+    private static final int SEGMENT_HEADER_SIZE = 4 + 8 + 8;
+    // type, sequence, payload length, then payload and CRC32C
+    private static final int RECORD_OVERHEAD = 1 + 8 + 4 + 4;
+    private static final byte OFFER = 1;
+    private static final byte POLL = 2;
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Path directory;
+    private final Codec<T> codec;
+    private final long segmentSize;
+    private final CustomLinkedList<T> items = new CustomLinkedList<>();
+    private final CustomArrayList<Segment> sealed = new CustomArrayList<>();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private final ScheduledExecutorService flusher;
+
+    // Sequence of the first element in items.
+    private long headSeq;
+    private Segment active;
+    private long activeSize;
+    private FileChannel channel;
+    private long nextSegmentId;
+    private volatile long durableConsumedSeq;
+    private volatile IOException failure;
+    private boolean closed = false;
+
+    /**
+     * Converts elements to and from the bytes stored in the log.
+     */
+    public interface Codec<T> {
+        byte[] encode(T o);
+
+        T decode(byte[] bytes);
+    }
+
+    private static final class Segment {
+        private final Path path;
+        // Sequence of the last offer in the segment, or one before the first
+        // offer it would hold.
+        private long lastOfferSeq;
+
+        private Segment(Path path, long lastOfferSeq) {
+            this.path = path;
+            this.lastOfferSeq = lastOfferSeq;
+        }
+    }
+
+    public CustomJournaledQueue(Path directory, Codec<T> codec) throws IOException {
+        this(directory, codec, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens the queue in {@code directory}, replaying any log found there.
+     *
+     * @param segmentSize size in bytes after which a new segment is started
+     * @param syncIntervalMillis time between background group commits
+     */
+    public CustomJournaledQueue(Path directory, Codec<T> codec, long segmentSize,
+                                long syncIntervalMillis) throws IOException {
+        if (segmentSize <= SEGMENT_HEADER_SIZE || syncIntervalMillis <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(directory);
+        recover();
+        durableConsumedSeq = headSeq - 1;
+
+        synchronized (this) {
+            openSegment();
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "journal-flusher " + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::groupCommit, syncIntervalMillis,
+                                       syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean offer(T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+
+        byte[] payload = codec.encode(o);
+
+        synchronized (this) {
+            checkOpen();
+            long seq = headSeq + items.size();
+
+            append(OFFER, seq, payload);
+            active.lastOfferSeq = seq;
+            items.add(o);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean add(T o) {
+        return offer(o);
+    }
+
+    /**
+     * Offers all elements of {@code c} in one critical section.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        Object[] a = c.toArray();
+        byte[][] payloads = new byte[a.length][];
+
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == null) {
+                throw new NullPointerException();
+            }
+            payloads[i] = codec.encode((T) a[i]);
+        }
+
+        synchronized (this) {
+            checkOpen();
+            for (int i = 0; i < a.length; i++) {
+                long seq = headSeq + items.size();
+
+                append(OFFER, seq, payloads[i]);
+                active.lastOfferSeq = seq;
+                items.add((T) a[i]);
+            }
+        }
+
+        return a.length > 0;
+    }
+
+    @Override
+    public synchronized T poll() {
+        checkOpen();
+        if (items.isEmpty()) {
+            return null;
+        }
+
+        append(POLL, headSeq, null);
+        headSeq++;
+
+        return items.removeFirst();
+    }
+
+    @Override
+    public T remove() {
+        T result = poll();
+
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+
+        return result;
+    }
+
+    @Override
+    public synchronized T peek() {
+        return items.isEmpty() ? null : items.getFirst();
+    }
+
+    @Override
+    public T element() {
+        T result = peek();
+
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+
+        return result;
+    }
+
+    /**
+     * Consumes every element with a single POLL record.
+     */
+    @Override
+    public synchronized void clear() {
+        checkOpen();
+        if (!items.isEmpty()) {
+            append(POLL, headSeq + items.size() - 1, null);
+            headSeq += items.size();
+            items.clear();
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return items.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    @Override
+    public synchronized boolean contains(Object o) {
+        return items.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (isEmpty()) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public synchronized Object[] toArray() {
+        return items.toArray();
+    }
+
+    @Override
+    public synchronized <S> S[] toArray(S[] a) {
+        return items.toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    /**
+     * Writes out buffered records and forces them to disk.
+     */
+    public void sync() throws IOException {
+        FileChannel ch;
+        long consumed;
+
+        synchronized (this) {
+            checkOpen();
+            consumed = headSeq - 1;
+            flushBuffer();
+            ch = channel;
+        }
+
+        try {
+            ch.force(false);
+        } catch (ClosedChannelException e) {
+            // The segment was sealed meanwhile, which forces it before closing.
+        }
+        durableConsumedSeq = Math.max(durableConsumedSeq, consumed);
+    }
+
+    /**
+     * Stops the background thread, syncs and closes the log. The queue cannot
+     * be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushBuffer();
+            channel.force(false);
+            channel.close();
+            durableConsumedSeq = headSeq - 1;
+        }
+        compact();
+    }
+
+    //Iterator
+
+    /**
+     * Returns a read-only iterator over a snapshot of the queue.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] snapshot = toArray();
+
+        return new Iterator<T>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < snapshot.length;
+            }
+
+            @Override
+            public T next() {
+                if (next >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+
+                return (T) snapshot[next++];
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Background task: group commit, then compaction.
+     */
+    private void groupCommit() {
+        try {
+            sync();
+            compact();
+        } catch (IOException e) {
+            failure = e;
+        } catch (IllegalStateException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Deletes the leading sealed segments whose offers have all been
+     * consumed by polls that are already on disk.
+     */
+    private void compact() throws IOException {
+        CustomArrayList<Path> obsolete = new CustomArrayList<>();
+
+        synchronized (this) {
+            while (!sealed.isEmpty() && sealed.get(0).lastOfferSeq <= durableConsumedSeq) {
+                obsolete.add(sealed.remove(0).path);
+            }
+        }
+
+        for (int i = 0; i < obsolete.size(); i++) {
+            Files.deleteIfExists(obsolete.get(i));
+        }
+    }
+
+    private void append(byte type, long seq, byte[] payload) {
+        int length = payload == null ? 0 : payload.length;
+        int recordSize = RECORD_OVERHEAD + length;
+
+        try {
+            if (activeSize + recordSize > segmentSize && activeSize > SEGMENT_HEADER_SIZE) {
+                sealSegment();
+                openSegment();
+            }
+            if (buffer.remaining() < recordSize) {
+                flushBuffer();
+            }
+
+            ByteBuffer target = recordSize <= buffer.capacity() ? buffer : ByteBuffer.allocate(recordSize);
+            int start = target.position();
+
+            target.put(type).putLong(seq).putInt(length);
+            if (payload != null) {
+                target.put(payload);
+            }
+
+            ByteBuffer record = target.duplicate();
+            record.limit(target.position()).position(start);
+            crc.reset();
+            crc.update(record);
+            target.putInt((int) crc.getValue());
+
+            if (target != buffer) {
+                target.flip();
+                writeFully(target);
+            }
+            activeSize += recordSize;
+        } catch (IOException e) {
+            failure = e;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+
+    private void sealSegment() throws IOException {
+        flushBuffer();
+        channel.force(false);
+        channel.close();
+        sealed.add(active);
+    }
+
+    /**
+     * Starts a new segment whose header records the next offer sequence and
+     * the highest consumed sequence.
+     */
+    private void openSegment() throws IOException {
+        long nextSeq = headSeq + items.size();
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, nextSegmentId++, SUFFIX));
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        active = new Segment(path, nextSeq - 1);
+        buffer.putInt(MAGIC).putLong(nextSeq).putLong(headSeq - 1);
+        activeSize = SEGMENT_HEADER_SIZE;
+    }
+
+    /**
+     * Replays the segments in order. A torn or corrupt tail is tolerated, and
+     * truncated, only in the last segment.
+     */
+    private void recover() throws IOException {
+        CustomArrayList<Path> paths = new CustomArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path path : stream) {
+                paths.add(path);
+            }
+        }
+
+        Path[] sorted = paths.toArray(new Path[0]);
+        Arrays.sort(sorted);
+
+        long consumed = -1;
+        long nextSeq = 0;
+        CustomArrayList<byte[]> payloads = new CustomArrayList<>();
+        long firstPayloadSeq = 0;
+        byte[] header = new byte[RECORD_OVERHEAD - 4];
+        // Last segment with a torn header, deleted once its channel is closed.
+        Path torn = null;
+
+        for (int i = 0; i < sorted.length; i++) {
+            Path path = sorted[i];
+            boolean last = i == sorted.length - 1;
+            String name = path.getFileName().toString();
+
+            nextSegmentId = Math.max(nextSegmentId,
+                    Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())) + 1);
+
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(ch), BUFFER_SIZE));
+                long valid;
+
+                try {
+                    if (in.readInt() != MAGIC) {
+                        throw new EOFException();
+                    }
+                    long baseSeq = in.readLong();
+                    consumed = Math.max(consumed, in.readLong());
+                    nextSeq = Math.max(nextSeq, baseSeq);
+                } catch (EOFException e) {
+                    if (!last) {
+                        throw new IOException("Corrupt segment header: " + path);
+                    }
+                    torn = path;
+                    break;
+                }
+
+                Segment segment = new Segment(path, nextSeq - 1);
+                valid = SEGMENT_HEADER_SIZE;
+
+                while (valid < ch.size()) {
+                    int type;
+                    long seq;
+                    byte[] payload;
+
+                    try {
+                        in.readFully(header);
+                        ByteBuffer fields = ByteBuffer.wrap(header);
+                        type = fields.get();
+                        seq = fields.getLong();
+                        int length = fields.getInt();
+
+                        if (length < 0 || length > ch.size() - valid) {
+                            throw new EOFException();
+                        }
+                        payload = length == 0 ? EMPTY : new byte[length];
+                        in.readFully(payload);
+
+                        crc.reset();
+                        crc.update(header);
+                        crc.update(payload);
+                        if (in.readInt() != (int) crc.getValue() || type != OFFER && type != POLL) {
+                            throw new EOFException();
+                        }
+                    } catch (EOFException e) {
+                        if (!last) {
+                            throw new IOException("Corrupt record in " + path + " at " + valid);
+                        }
+                        ch.truncate(valid);
+                        break;
+                    }
+
+                    if (type == OFFER) {
+                        if (payloads.isEmpty()) {
+                            firstPayloadSeq = seq;
+                        }
+                        payloads.add(payload);
+                        segment.lastOfferSeq = seq;
+                        nextSeq = seq + 1;
+                    } else {
+                        consumed = Math.max(consumed, seq);
+                        firstPayloadSeq = dropConsumed(payloads, firstPayloadSeq, consumed);
+                    }
+                    valid += RECORD_OVERHEAD + payload.length;
+                }
+
+                sealed.add(segment);
+            }
+        }
+
+        if (torn != null) {
+            Files.delete(torn);
+        }
+
+        firstPayloadSeq = dropConsumed(payloads, firstPayloadSeq, consumed);
+        for (int i = 0; i < payloads.size(); i++) {
+            items.add(codec.decode(payloads.get(i)));
+        }
+        headSeq = payloads.isEmpty() ? Math.max(consumed + 1, nextSeq) : firstPayloadSeq;
+    }
+
+    /**
+     * Drops the payloads already consumed while replaying. Offers are numbered
+     * consecutively, so the live ones are always a suffix.
+     *
+     * @return the sequence of the first remaining payload
+     */
+    private static long dropConsumed(CustomArrayList<byte[]> payloads, long firstSeq, long consumed) {
+        while (!payloads.isEmpty() && firstSeq <= consumed) {
+            payloads.remove(0);
+            firstSeq++;
+        }
+
+        return firstSeq;
+    }
+}
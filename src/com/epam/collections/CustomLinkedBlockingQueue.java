@@ -0,0 +1,757 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Custom bounded blocking linked queue implementation.
+ * A two-lock queue: producers only take the put lock around the tail and
+ * consumers only take the take lock around the head, so one producer and one
+ * consumer never block each other. {@link #offerAll} and {@link #drainTo}
+ * move a whole batch under a single lock acquisition, and {@link #putAll}
+ * inserts a batch in as few parts as the free capacity allows, waiting for
+ * room between them. Waiting threads park on {@link ReentrantLock}
+ * conditions, which also unmounts virtual threads.
+ * Null elements are not permitted.
+ */
+public class CustomLinkedBlockingQueue<T> implements BlockingQueue<T> {
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+
+    // head is a dummy node, the first element lives in head.next
+    private Node<T> head;
+    private Node<T> last;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
+    private static final class Node<T> {
+        private T data;
+        private Node<T> next;
+
+        public Node(T data) {
+            this.data = data;
+        }
+    }
+
+    public CustomLinkedBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.capacity = capacity;
+        head = last = new Node<>(null);
+    }
+
+    public CustomLinkedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void put(T o) throws InterruptedException {
+        checkNotNull(o);
+        int c;
+
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+            enqueue(new Node<>(o));
+            c = count.getAndIncrement();
+            if (c + 1 < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+
+        if (c == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    @Override
+    public boolean offer(T o, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(o);
+        long nanos = unit.toNanos(timeout);
+        int c;
+
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(new Node<>(o));
+            c = count.getAndIncrement();
+            if (c + 1 < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+
+        if (c == 0) {
+            signalNotEmpty();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean offer(T o) {
+        checkNotNull(o);
+        if (count.get() == capacity) {
+            return false;
+        }
+
+        int c = -1;
+
+        putLock.lock();
+        try {
+            if (count.get() < capacity) {
+                enqueue(new Node<>(o));
+                c = count.getAndIncrement();
+                if (c + 1 < capacity) {
+                    notFull.signal();
+                }
+            }
+        } finally {
+            putLock.unlock();
+        }
+
+        if (c == 0) {
+            signalNotEmpty();
+        }
+
+        return c >= 0;
+    }
+
+    /**
+     * Inserts as many elements of {@code batch} as fit, in iteration order,
+     * under one acquisition of the put lock. Never blocks.
+     *
+     * @return the number of elements inserted
+     */
+    public int offerAll(Collection<? extends T> batch) {
+        Object[] a = batch.toArray();
+
+        for (Object o : a) {
+            checkNotNull(o);
+        }
+        if (a.length == 0) {
+            return 0;
+        }
+
+        int added;
+        int c;
+
+        putLock.lock();
+        try {
+            added = Math.min(a.length, capacity - count.get());
+            for (int i = 0; i < added; i++) {
+                enqueue(new Node<>((T) a[i]));
+            }
+            c = count.getAndAdd(added);
+            if (c + added < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+
+        if (c == 0 && added > 0) {
+            signalNotEmpty();
+        }
+
+        return added;
+    }
+
+    /**
+     * Inserts all elements of {@code batch}, in iteration order, waiting for
+     * space whenever the queue is full. Each part that fits is inserted under
+     * one acquisition of the put lock. If interrupted, the elements inserted
+     * so far stay in the queue.
+     */
+    public void putAll(Collection<? extends T> batch) throws InterruptedException {
+        insertAll(batch.toArray(), false, 0);
+    }
+
+    /**
+     * Like {@link #putAll}, but gives up once {@code timeout} has passed
+     * without the rest of the batch fitting.
+     *
+     * @return the number of elements inserted
+     */
+    public int offerAll(Collection<? extends T> batch, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return insertAll(batch.toArray(), true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public boolean add(T o) {
+        if (!offer(o)) {
+            throw new IllegalStateException("Queue full");
+        }
+
+        return true;
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        T x;
+        int c;
+
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            x = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (c == capacity) {
+            signalNotFull();
+        }
+
+        return x;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        T x;
+        int c;
+
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            x = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (c == capacity) {
+            signalNotFull();
+        }
+
+        return x;
+    }
+
+    @Override
+    public T poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+
+        T x = null;
+        int c = -1;
+
+        takeLock.lock();
+        try {
+            if (count.get() > 0) {
+                x = dequeue();
+                c = count.getAndDecrement();
+                if (c > 1) {
+                    notEmpty.signal();
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (c == capacity) {
+            signalNotFull();
+        }
+
+        return x;
+    }
+
+    @Override
+    public T remove() {
+        T x = poll();
+
+        if (x == null) {
+            throw new NoSuchElementException();
+        }
+
+        return x;
+    }
+
+    @Override
+    public T peek() {
+        if (count.get() == 0) {
+            return null;
+        }
+
+        takeLock.lock();
+        try {
+            Node<T> first = head.next;
+            return first == null ? null : first.data;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public T element() {
+        T x = peek();
+
+        if (x == null) {
+            throw new NoSuchElementException();
+        }
+
+        return x;
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to {@code maxElements} elements to {@code c} under one
+     * acquisition of the take lock.
+     */
+    @Override
+    public int drainTo(Collection<? super T> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        if (maxElements <= 0) {
+            return 0;
+        }
+
+        boolean wasFull = false;
+        int n = 0;
+
+        takeLock.lock();
+        try {
+            int max = Math.min(maxElements, count.get());
+            Node<T> h = head;
+
+            try {
+                while (n < max) {
+                    Node<T> p = h.next;
+                    c.add(p.data);
+                    p.data = null;
+                    h.next = h;
+                    h = p;
+                    n++;
+                }
+            } finally {
+                // Keep the elements already handed over removed, even if
+                // c.add threw.
+                if (n > 0) {
+                    head = h;
+                    wasFull = count.getAndAdd(-n) == capacity;
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (wasFull) {
+            signalNotFull();
+        }
+
+        return n;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        fullyLock();
+        try {
+            for (Node<T> p = head.next; p != null; p = p.next) {
+                if (o.equals(p.data)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        fullyLock();
+        try {
+            for (Node<T> trail = head, p = trail.next; p != null; trail = p, p = p.next) {
+                if (o.equals(p.data)) {
+                    unlink(p, trail);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        boolean modified = false;
+
+        for (T o : c) {
+            if (add(o)) {
+                modified = true;
+            }
+        }
+
+        return modified;
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (isEmpty()) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        return filter(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        return filter(c, true);
+    }
+
+    @Override
+    public void clear() {
+        fullyLock();
+        try {
+            Node<T> h = head;
+            Node<T> p;
+
+            while ((p = h.next) != null) {
+                h.next = h;
+                p.data = null;
+                h = p;
+            }
+            head = last;
+
+            if (count.getAndSet(0) == capacity) {
+                notFull.signal();
+            }
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        return snapshot().toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    /**
+     * Returns an iterator over a snapshot of the queue taken under both
+     * locks. Its {@code remove} removes the very node returned last, if it is
+     * still in the queue.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        CustomArrayList<Node<T>> nodes = new CustomArrayList<>();
+        CustomArrayList<T> items = new CustomArrayList<>();
+
+        fullyLock();
+        try {
+            for (Node<T> p = head.next; p != null; p = p.next) {
+                nodes.add(p);
+                items.add(p.data);
+            }
+        } finally {
+            fullyUnlock();
+        }
+
+        return new Iterator<T>() {
+            private int next = 0;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next < items.size();
+            }
+
+            @Override
+            public T next() {
+                if (next >= items.size()) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = next;
+
+                return items.get(next++);
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == -1) {
+                    throw new IllegalStateException();
+                }
+
+                Node<T> node = nodes.get(lastReturned);
+                lastReturned = -1;
+
+                fullyLock();
+                try {
+                    for (Node<T> trail = head, p = trail.next; p != null; trail = p, p = p.next) {
+                        if (p == node) {
+                            unlink(p, trail);
+                            break;
+                        }
+                    }
+                } finally {
+                    fullyUnlock();
+                }
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    // Caller holds the put lock.
+    private void enqueue(Node<T> node) {
+        last = last.next = node;
+    }
+
+    // Caller holds the take lock and has checked that the queue is not empty.
+    private T dequeue() {
+        Node<T> h = head;
+        Node<T> first = h.next;
+
+        h.next = h; // help GC
+        head = first;
+
+        T x = first.data;
+        first.data = null;
+
+        return x;
+    }
+
+    // Caller holds both locks.
+    private void unlink(Node<T> p, Node<T> trail) {
+        p.data = null;
+        trail.next = p.next;
+
+        if (last == p) {
+            last = trail;
+        }
+        if (count.getAndDecrement() == capacity) {
+            notFull.signal();
+        }
+    }
+
+    private boolean filter(Collection c, boolean retain) {
+        boolean modified = false;
+
+        fullyLock();
+        try {
+            Node<T> trail = head;
+            Node<T> p = trail.next;
+
+            while (p != null) {
+                Node<T> next = p.next;
+
+                if (c.contains(p.data) != retain) {
+                    unlink(p, trail);
+                    modified = true;
+                } else {
+                    trail = p;
+                }
+                p = next;
+            }
+        } finally {
+            fullyUnlock();
+        }
+
+        return modified;
+    }
+
+    private CustomArrayList<T> snapshot() {
+        CustomArrayList<T> list = new CustomArrayList<>(count.get());
+
+        fullyLock();
+        try {
+            for (Node<T> p = head.next; p != null; p = p.next) {
+                list.add(p.data);
+            }
+        } finally {
+            fullyUnlock();
+        }
+
+        return list;
+    }
+
+    /**
+     * Inserts {@code a} in parts that fit the free capacity, waiting on
+     * notFull between them, at most {@code nanos} if {@code timed}.
+     */
+    private int insertAll(Object[] a, boolean timed, long nanos) throws InterruptedException {
+        for (Object o : a) {
+            checkNotNull(o);
+        }
+
+        int added = 0;
+
+        putLock.lockInterruptibly();
+        try {
+            while (added < a.length) {
+                while (count.get() == capacity) {
+                    if (!timed) {
+                        notFull.await();
+                    } else if (nanos <= 0) {
+                        return added;
+                    } else {
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                }
+
+                int n = Math.min(a.length - added, capacity - count.get());
+
+                for (int i = 0; i < n; i++) {
+                    enqueue(new Node<>((T) a[added + i]));
+                }
+                added += n;
+
+                // Wake a consumer before waiting for it to make room. Taking
+                // the take lock inside the put lock is the fullyLock order.
+                if (count.getAndAdd(n) == 0) {
+                    signalNotEmpty();
+                }
+            }
+            if (count.get() < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+
+        return added;
+    }
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+
+    private static void checkNotNull(Object o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+    }
+}
@@ -2,16 +2,38 @@ package com.epam.collections;
 
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Custom linked list implementation
  */
 public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
+    private static final int SPLIT_BATCH_UNIT = 1 << 10;
+    private static final int SPLIT_MAX_BATCH = 1 << 25;
     private Entry<T> first;
     private Entry<T> last;
     private int size = 0;
     private int modCount = 0;
 
+    // Last entry found by getEntry and its index. Only valid while modCount
+    // equals fingerModCount, so any structural change invalidates it. Cleared
+    // when its entry is unlinked or the chain is rebuilt, so it never keeps
+    // detached entries alive.
+    private Entry<T> finger;
+    private int fingerIndex;
+    private int fingerModCount;
+
+    // Free list of removed entries, chained through next. Disabled while
+    // poolCapacity is 0.
+    private Entry<T> pool;
+    private int poolSize = 0;
+    private int poolCapacity = 0;
+    // modCount seen by the previous trimIfIdle call.
+    private int idleModCount = -1;
+
+    // Optional membership filter covering every element. Null if disabled.
+    private BloomFilter filter;
+
     private static final class Entry<T> {
         private T data;
         private Entry next;
@@ -38,6 +60,82 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         addAll(c);
     }
 
+    /**
+     * Lets the list keep up to {@code capacity} removed entries and reuse them
+     * for later insertions, so a queue in steady state allocates nothing.
+     * A capacity of 0 disables pooling.
+     */
+    public void setEntryPoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        poolCapacity = capacity;
+        while (poolSize > capacity) {
+            Entry<T> e = pool;
+            pool = e.next;
+            e.next = null;
+            poolSize--;
+        }
+    }
+
+    /**
+     * Drops the entries kept in the pool. Later removals refill it up to
+     * its capacity.
+     */
+    public void trimToSize() {
+        pool = null;
+        poolSize = 0;
+    }
+
+    /**
+     * Drops the pool if the list has not been structurally modified since
+     * the previous call. Calling this periodically makes a queue that has
+     * gone quiet after a burst give its pooled entries back.
+     *
+     * @return true if pooled entries were released
+     */
+    public boolean trimIfIdle() {
+        boolean idle = idleModCount == modCount;
+
+        idleModCount = modCount;
+        if (idle && poolSize > 0) {
+            trimToSize();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the list, its
+     * entries and its pool, not counting the elements themselves.
+     */
+    public long footprint() {
+        return Footprint.object(5, 7 * Integer.BYTES)
+                + (long) (size + poolSize) * Footprint.object(3, 0)
+                + (filter == null ? 0 : filter.footprint());
+    }
+
+    /**
+     * Puts a Bloom filter in front of contains and remove(Object), so that
+     * most lookups of absent elements return without walking the list. The
+     * filter is kept up to date on every insertion and rebuilt lazily after
+     * removals. Elements must have a hashCode consistent with equals.
+     */
+    public void setMembershipFilterEnabled(boolean enabled) {
+        if (!enabled) {
+            filter = null;
+        } else if (filter == null) {
+            filter = new BloomFilter();
+            filter.invalidate();
+        }
+    }
+
+    public boolean isMembershipFilterEnabled() {
+        return filter != null;
+    }
+
     public T getFirst() {
         if (size == 0) {
             throw new NoSuchElementException();
@@ -62,15 +160,20 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         modCount++;
         size--;
 
-        T r = first.data;
+        Entry<T> e = first;
+        T r = e.data;
 
-        if (first.next != null) {
-            first.next.previous = null;
+        if (e.next != null) {
+            e.next.previous = null;
         } else {
             last = null;
         }
 
-        first = first.next;
+        first = e.next;
+        if (e == finger) {
+            resetFinger();
+        }
+        releaseEntry(e);
 
         return r;
     }
@@ -83,22 +186,31 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         modCount++;
         size--;
 
-        T r = last.data;
+        Entry<T> e = last;
+        T r = e.data;
 
-        if (last.previous != null) {
-            last.previous.next = null;
+        if (e.previous != null) {
+            e.previous.next = null;
         } else {
             first = null;
         }
 
-        last = last.previous;
+        last = e.previous;
+        if (e == finger) {
+            resetFinger();
+        }
+        releaseEntry(e);
 
         return r;
     }
 
     @Override
     public boolean remove(Object o) {
-        Entry<T> e = last;
+        if (!mightContain(o)) {
+            return false;
+        }
+
+        Entry<T> e = first;
 
         while (e != null) {
             if (e.data.equals(o)) {
@@ -117,7 +229,7 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
     }
 
     public void addFirst(T o) {
-        Entry<T> e = new Entry<>(o);
+        Entry<T> e = newEntry(o);
 
         modCount++;
         if (size == 0) {
@@ -131,7 +243,7 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
     }
 
     public void addLast(T o) {
-        Entry<T> e = new Entry<>(o);
+        Entry<T> e = newEntry(o);
 
         modCount++;
         if (size == 0) {
@@ -155,7 +267,7 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         checkBoundInclusive(index);
 
         if (index < size) {
-            Entry<T> e = new Entry<>(o);
+            Entry<T> e = newEntry(o);
             Entry<T> after = getEntry(index);
 
             modCount++;
@@ -182,13 +294,13 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
 
     public boolean addAll(int index, Collection<? extends T> c) {
         checkBoundInclusive(index);
-        int cSize = c.size();
+        Object[] a = c.toArray();
+        int cSize = a.length;
 
         if (cSize == 0) {
             return false;
         }
 
-        Iterator<? extends T> iterator = c.iterator();
         Entry<T> before = null;
         Entry<T> after = null;
 
@@ -199,13 +311,13 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
             before = last;
         }
 
-        Entry<T> e = new Entry<T>(iterator.next());
+        Entry<T> e = newEntry((T) a[0]);
         e.previous = before;
         Entry<T> prev = e;
         Entry<T> firstNew = e;
 
         for (int pos = 1; pos < cSize; pos++) {
-            e = new Entry<T>(iterator.next());
+            e = newEntry((T) a[pos]);
             e.previous = prev;
             prev.next = e;
             prev = e;
@@ -230,6 +342,193 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         return true;
     }
 
+    /**
+     * Moves all elements of {@code other} to the end of this list by relinking
+     * its entries, in constant time. {@code other} is left empty.
+     */
+    public void transferAll(CustomLinkedList<T> other) {
+        spliceAt(size, other);
+    }
+
+    /**
+     * Moves all elements of {@code other} into this list before position
+     * {@code index} by relinking its entries. {@code other} is left empty.
+     */
+    public void spliceAt(int index, CustomLinkedList<T> other) {
+        checkBoundInclusive(index);
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if (other.size == 0) {
+            return;
+        }
+
+        Entry<T> before;
+        Entry<T> after;
+
+        if (index == size) {
+            before = last;
+            after = null;
+        } else {
+            after = getEntry(index);
+            before = after.previous;
+        }
+
+        other.first.previous = before;
+        other.last.next = after;
+
+        if (before == null) {
+            first = other.first;
+        } else {
+            before.next = other.first;
+        }
+
+        if (after == null) {
+            last = other.last;
+        } else {
+            after.previous = other.last;
+        }
+
+        modCount++;
+        size += other.size;
+        if (filter != null) {
+            filter.invalidate();
+        }
+
+        resetFinger();
+
+        other.modCount++;
+        other.first = other.last = null;
+        other.size = 0;
+        other.resetFinger();
+    }
+
+    /**
+     * Cuts this list before position {@code index} and returns the elements
+     * from {@code index} on as a new list that takes over their entries.
+     */
+    public CustomLinkedList<T> splitAt(int index) {
+        checkBoundInclusive(index);
+        CustomLinkedList<T> tail = new CustomLinkedList<>();
+
+        if (index == size) {
+            return tail;
+        }
+
+        Entry<T> e = getEntry(index);
+
+        tail.first = e;
+        tail.last = last;
+        tail.size = size - index;
+
+        last = e.previous;
+        if (last == null) {
+            first = null;
+        } else {
+            last.next = null;
+        }
+        e.previous = null;
+
+        modCount++;
+        size = index;
+        resetFinger();
+
+        return tail;
+    }
+
+    /**
+     * Sorts the list in place with a stable natural merge sort that relinks
+     * the existing entries. Ascending runs already present in the list are
+     * merged as they are, so a sorted list costs a single pass.
+     *
+     * @param c the comparator, or null for the natural ordering
+     */
+    public void sort(Comparator<? super T> c) {
+        if (size < 2) {
+            return;
+        }
+
+        Comparator<? super T> cmp = c != null ? c : (Comparator<? super T>) Comparator.naturalOrder();
+        Entry<T> list = first;
+        // Merged output of the current pass, the two runs being merged and
+        // the entries not reached yet. Together they always hold every entry,
+        // so the list can be relinked if the comparator throws.
+        Entry<T> head = null;
+        Entry<T> tail = null;
+        Entry<T> a = null;
+        Entry<T> b = null;
+        Entry<T> p = null;
+        int runs;
+
+        try {
+            // Each pass merges pairs of adjacent runs, using only next links.
+            do {
+                p = list;
+                head = tail = null;
+                runs = 0;
+
+                while (p != null) {
+                    a = p;
+                    p = null;
+
+                    Entry<T> aEnd = runEnd(a, cmp);
+                    Entry<T> bEnd = null;
+
+                    b = aEnd.next;
+                    aEnd.next = null;
+                    if (b != null) {
+                        bEnd = runEnd(b, cmp);
+                        p = bEnd.next;
+                        bEnd.next = null;
+                    }
+                    runs++;
+
+                    while (a != null && b != null) {
+                        Entry<T> e;
+
+                        if (cmp.compare(b.data, a.data) < 0) {
+                            e = b;
+                            b = b.next;
+                        } else { // take from a on ties to stay stable
+                            e = a;
+                            a = a.next;
+                        }
+
+                        if (tail == null) {
+                            head = e;
+                        } else {
+                            tail.next = e;
+                        }
+                        tail = e;
+                    }
+
+                    Entry<T> rest = a != null ? a : b;
+
+                    if (tail == null) {
+                        head = rest;
+                    } else {
+                        tail.next = rest;
+                    }
+                    tail = a != null ? aEnd : bEnd;
+                    a = b = null;
+                }
+
+                list = head;
+            } while (runs > 1);
+        } finally {
+            // Restore the next and previous links, in sorted order unless the
+            // comparator threw.
+            last = null;
+            link(head, tail);
+            link(a, null);
+            link(b, null);
+            link(p, null);
+            last.next = null;
+            modCount++;
+            resetFinger();
+        }
+    }
+
     public int indexOf(Object o) {
         int index = 0;
         Entry<T> e = first;
@@ -265,12 +564,7 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
     @Override
     public Object[] toArray() {
         Object[] array = new Object[size];
-        Entry<T> e = first;
-
-        for (int i = 0; i < size; i++) {
-            array[i] = e.data;
-            e = e.next;
-        }
+        copyTo(array, 0);
 
         return array;
     }
@@ -282,13 +576,7 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         } else if (a.length > size) {
             a[size] = null;
         }
-
-        Entry<T> e = first;
-
-        for (int i = 0; i < size; i++) {
-            a[i] = (S) e.data;
-            e = e.next;
-        }
+        copyTo(a, 0);
 
         return a;
     }
@@ -304,12 +592,19 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         Entry<T> e = getEntry(index);
         T old = e.data;
         e.data = o;
+        if (filter != null) {
+            filter.add(o);
+        }
 
         return old;
     }
 
     @Override
     public boolean contains(Object o) {
+        if (!mightContain(o)) {
+            return false;
+        }
+
         Entry<T> e = first;
 
         while (e != null) {
@@ -364,9 +659,18 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
     public void clear() {
         if (size > 0) {
             modCount++;
+
+            Entry<T> e = first;
+            while (e != null && poolSize < poolCapacity) {
+                Entry<T> next = e.next;
+                releaseEntry(e);
+                e = next;
+            }
+
             first = null;
             last = null;
             size = 0;
+            resetFinger();
         }
     }
 
@@ -465,6 +769,27 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         return sb.toString();
     }
 
+    /**
+     * Returns a lazy query whose terminal operations follow the entry links
+     * directly.
+     */
+    public Query<T> query() {
+        return new Query<>(sink -> {
+            int expectedModCount = modCount;
+
+            for (Entry<T> e = first; e != null; e = e.next) {
+                boolean more = sink.accept(e.data);
+
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!more) {
+                    return;
+                }
+            }
+        });
+    }
+
     //Iterator
 
     @Override
@@ -477,7 +802,7 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         return new ListIterator<T>() {
             private int modCount = CustomLinkedList.this.modCount;
             private Entry<T> next = (Entry<T>) getEntry(0);
-            private Entry<T> previous = next.previous;
+            private Entry<T> previous = next == null ? last : next.previous;
             private Entry<T> lastReturned;
             private int position = 0;
 
@@ -565,6 +890,9 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
                 }
 
                 lastReturned.data = o;
+                if (filter != null) {
+                    filter.add(o);
+                }
             }
 
             @Override
@@ -575,7 +903,7 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
                 size++;
                 position++;
 
-                Entry<T> e = new Entry<T>(o);
+                Entry<T> e = newEntry(o);
                 e.previous = previous;
                 e.next = next;
 
@@ -597,23 +925,162 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
         };
     }
 
+    /**
+     * Returns a late-binding, fail-fast spliterator reporting SIZED and
+     * ORDERED. It splits by copying batches of growing size off the front of
+     * the chain into arrays, so parallel streams get independent chunks
+     * despite the sequential links.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new EntrySpliterator();
+    }
+
+    private final class EntrySpliterator implements Spliterator<T> {
+        private Entry<T> current;
+        private int remaining = -1; // bound to the list on first use
+        private int expectedModCount;
+        private int batch = 0;
+
+        private int bind() {
+            if (remaining < 0) {
+                current = first;
+                remaining = size;
+                expectedModCount = modCount;
+            }
+
+            return remaining;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int s = bind();
+
+            if (s <= 1 || current == null) {
+                return null;
+            }
+
+            int n = Math.min(Math.min(batch + SPLIT_BATCH_UNIT, s), SPLIT_MAX_BATCH);
+            Object[] a = new Object[n];
+            Entry<T> e = current;
+            int j = 0;
+
+            do {
+                a[j++] = e.data;
+            } while ((e = e.next) != null && j < n);
+
+            current = e;
+            batch = j;
+            remaining = s - j;
+
+            return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (bind() <= 0 || current == null) {
+                return false;
+            }
+
+            T data = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(data);
+            checkMod();
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int n = bind();
+            Entry<T> e = current;
+
+            current = null;
+            remaining = 0;
+
+            while (e != null && n-- > 0) {
+                action.accept(e.data);
+                e = e.next;
+            }
+            checkMod();
+        }
+
+        @Override
+        public long estimateSize() {
+            return bind();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkMod() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
     //Auxiliary methods
 
+    void copyTo(Object[] dest, int destPos) {
+        Entry<T> e = first;
+
+        for (int i = destPos; e != null; i++) {
+            dest[i] = e.data;
+            e = e.next;
+        }
+    }
+
     private Entry getEntry(int index) {
+        int position = index;
+        int start;
         Entry<T> e;
 
-        if (index < size() / 2) {
+        if (finger != null && fingerModCount == modCount
+                && Math.abs(index - fingerIndex) < Math.min(index, size - 1 - index)) {
+            int i = start = fingerIndex;
+            e = finger;
+            while (i < index) { //iterate forward from finger
+                e = e.next;
+                i++;
+            }
+            while (i > index) { //iterate backward from finger
+                e = e.previous;
+                i--;
+            }
+        } else if (index < size() / 2) {
+            start = 0;
             e = first;
             while (index-- > 0) { //iterate from start
                 e = e.next;
             }
         } else { //index >= size() / 2
+            start = size - 1;
             e = last;
             while (++index < size) { //iterate from end
                 e = e.previous;
             }
         }
 
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.recordListWalk(Math.abs(position - start));
+        }
+        if (e != null) {
+            finger = e;
+            fingerIndex = position;
+            fingerModCount = modCount;
+        }
+
         return e;
     }
 
@@ -635,6 +1102,98 @@ public class CustomLinkedList<T> implements Iterable<T>, Queue<T> {
                 e.previous.next = e.next;
             }
         }
+
+        if (e == finger) {
+            resetFinger();
+        }
+        releaseEntry(e);
+    }
+
+    /**
+     * Asks the membership filter, rebuilding it first if it is stale.
+     *
+     * @return false if {@code o} is definitely not in the list
+     */
+    private boolean mightContain(Object o) {
+        if (filter == null) {
+            return true;
+        }
+        if (filter.isStale(size)) {
+            filter.reset(size);
+            for (Entry<T> e = first; e != null; e = e.next) {
+                filter.add(e.data);
+            }
+        }
+
+        return filter.mightContain(o);
+    }
+
+    private Entry<T> runEnd(Entry<T> e, Comparator<? super T> cmp) {
+        while (e.next != null && cmp.compare(e.data, (T) e.next.data) <= 0) {
+            e = e.next;
+        }
+
+        return e;
+    }
+
+    /**
+     * Appends the entries from {@code from} through {@code to}, or through
+     * the end of the chain if {@code to} is null, after {@code last}, fixing
+     * their previous links.
+     */
+    private void link(Entry<T> from, Entry<T> to) {
+        Entry<T> e = from;
+
+        while (e != null) {
+            Entry<T> next = e == to ? null : e.next;
+
+            if (last == null) {
+                first = e;
+            } else {
+                last.next = e;
+            }
+            e.previous = last;
+            last = e;
+            e = next;
+        }
+    }
+
+    private Entry<T> newEntry(T o) {
+        if (filter != null) {
+            filter.add(o);
+        }
+        if (pool == null) {
+            return new Entry<>(o);
+        }
+
+        Entry<T> e = pool;
+        pool = e.next;
+        poolSize--;
+        e.next = null;
+        e.data = o;
+
+        return e;
+    }
+
+    /**
+     * Drops the cached finger so it does not keep a detached entry alive.
+     */
+    private void resetFinger() {
+        finger = null;
+        fingerIndex = 0;
+    }
+
+    /**
+     * Clears an unlinked entry and keeps it for reuse if the pool has room.
+     */
+    private void releaseEntry(Entry<T> e) {
+        if (poolSize < poolCapacity) {
+            e.data = null;
+            e.previous = null;
+            e.next = pool;
+            pool = e;
+            poolSize++;
+        }
     }
 
     private void checkBoundInclusive(int index) {
@@ -0,0 +1,506 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Custom pairing heap implementation.
+ * A min-heap kept as a tree of nodes linked through first child and next
+ * sibling. {@code offer} and {@link #decreaseKey} are O(1), {@code peek} is
+ * O(1) and {@code poll} is O(log n) amortized. {@link #insert} returns a
+ * {@link Handle} to the element so its priority can later be decreased or
+ * the element removed without a search. Iteration order is unspecified. Null
+ * elements are not permitted.
+ */
+public class CustomPairingHeap<T> implements Queue<T> {
+    private final Comparator<? super T> comparator;
+    private Handle<T> root;
+    private int size = 0;
+    private int modCount = 0;
+
+    /**
+     * Reference to an element in the heap. The prev link points to the parent
+     * for a first child and to the left sibling otherwise.
+     */
+    public static final class Handle<T> {
+        private T value;
+        private Handle<T> child;
+        private Handle<T> sibling;
+        private Handle<T> prev;
+        private CustomPairingHeap<T> heap;
+
+        private Handle(T value, CustomPairingHeap<T> heap) {
+            this.value = value;
+            this.heap = heap;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * Returns true while the element is still in its heap.
+         */
+        public boolean isLinked() {
+            return heap != null;
+        }
+
+        @Override
+        public String toString() {
+            if (value != null) {
+                return value.toString();
+            }
+            return null;
+        }
+    }
+
+    public CustomPairingHeap(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public CustomPairingHeap() {
+        this((Comparator<? super T>) null);
+    }
+
+    public CustomPairingHeap(Collection<? extends T> c) {
+        this((Comparator<? super T>) null);
+        addAll(c);
+    }
+
+    /**
+     * Adds an element and returns its handle.
+     */
+    public Handle<T> insert(T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+
+        Handle<T> x = new Handle<>(o, this);
+
+        root = meld(root, x);
+        size++;
+        modCount++;
+
+        return x;
+    }
+
+    /**
+     * Replaces the element of {@code handle} with {@code o}, which must not be
+     * greater than the current one, and moves it up accordingly.
+     */
+    public void decreaseKey(Handle<T> handle, T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+        checkHandle(handle);
+        if (compare(o, handle.value) > 0) {
+            throw new IllegalArgumentException("New value is greater than the current one");
+        }
+
+        handle.value = o;
+        if (handle != root) {
+            cut(handle);
+            root = meld(root, handle);
+        }
+        modCount++;
+    }
+
+    /**
+     * Removes the element of {@code handle} from the heap.
+     */
+    public T remove(Handle<T> handle) {
+        checkHandle(handle);
+
+        if (handle == root) {
+            root = mergePairs(root.child);
+        } else {
+            cut(handle);
+            root = meld(root, mergePairs(handle.child));
+        }
+        unlink(handle);
+
+        return handle.value;
+    }
+
+    @Override
+    public boolean offer(T o) {
+        insert(o);
+
+        return true;
+    }
+
+    @Override
+    public boolean add(T o) {
+        insert(o);
+
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        if (root == null) {
+            return null;
+        }
+
+        Handle<T> x = root;
+
+        root = mergePairs(x.child);
+        unlink(x);
+
+        return x.value;
+    }
+
+    @Override
+    public T remove() {
+        T result = poll();
+
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+
+        return result;
+    }
+
+    @Override
+    public T peek() {
+        return root == null ? null : root.value;
+    }
+
+    @Override
+    public T element() {
+        T result = peek();
+
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+
+        return result;
+    }
+
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return find(o) != null;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Handle<T> x = find(o);
+
+        if (x == null) {
+            return false;
+        }
+        remove(x);
+
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        boolean modified = false;
+
+        for (T o : c) {
+            modified |= add(o);
+        }
+
+        return modified;
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (size == 0) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        return filter(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        return filter(c, true);
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            for (Handle<T> x : handles()) {
+                x.child = x.sibling = x.prev = null;
+                x.heap = null;
+            }
+            root = null;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return values().toArray();
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        return values().toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    /**
+     * Returns an iterator over a snapshot of the handles; remove() takes the
+     * last returned element out of the heap.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        CustomArrayList<Handle<T>> snapshot = handles();
+
+        return new Iterator<T>() {
+            private int modCount = CustomPairingHeap.this.modCount;
+            private int next = 0;
+            private Handle<T> lastReturned;
+
+            private void checkMod() {
+                if (modCount != CustomPairingHeap.this.modCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < snapshot.size();
+            }
+
+            @Override
+            public T next() {
+                checkMod();
+                if (next >= snapshot.size()) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = snapshot.get(next++);
+
+                return lastReturned.value;
+            }
+
+            @Override
+            public void remove() {
+                checkMod();
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                CustomPairingHeap.this.remove(lastReturned);
+                modCount = CustomPairingHeap.this.modCount;
+                lastReturned = null;
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    private int compare(T a, T b) {
+        return comparator == null ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+    }
+
+    /**
+     * Links two detached trees, the larger root becoming the first child of
+     * the smaller one.
+     */
+    private Handle<T> meld(Handle<T> a, Handle<T> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (compare(b.value, a.value) < 0) {
+            Handle<T> t = a;
+            a = b;
+            b = t;
+        }
+
+        b.prev = a;
+        b.sibling = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        a.child = b;
+
+        return a;
+    }
+
+    /**
+     * Two-pass pairing of a sibling list: meld neighbours left to right, then
+     * meld the results right to left.
+     */
+    private Handle<T> mergePairs(Handle<T> first) {
+        if (first == null) {
+            return null;
+        }
+
+        // First pass, pushing the pairs onto a stack linked through sibling.
+        Handle<T> pairs = null;
+        Handle<T> a = first;
+
+        while (a != null) {
+            Handle<T> b = a.sibling;
+            Handle<T> next = b != null ? b.sibling : null;
+
+            a.sibling = a.prev = null;
+            if (b != null) {
+                b.sibling = b.prev = null;
+                a = meld(a, b);
+            }
+            a.sibling = pairs;
+            pairs = a;
+            a = next;
+        }
+
+        // Second pass, popping the most recent pair first.
+        Handle<T> result = pairs;
+
+        pairs = pairs.sibling;
+        result.sibling = null;
+        while (pairs != null) {
+            Handle<T> x = pairs;
+
+            pairs = pairs.sibling;
+            x.sibling = null;
+            result = meld(result, x);
+        }
+
+        return result;
+    }
+
+    /**
+     * Detaches the subtree rooted at a non-root node.
+     */
+    private void cut(Handle<T> x) {
+        if (x.prev.child == x) {
+            x.prev.child = x.sibling;
+        } else {
+            x.prev.sibling = x.sibling;
+        }
+        if (x.sibling != null) {
+            x.sibling.prev = x.prev;
+        }
+        x.prev = x.sibling = null;
+    }
+
+    private void unlink(Handle<T> x) {
+        x.child = x.sibling = x.prev = null;
+        x.heap = null;
+        size--;
+        modCount++;
+    }
+
+    private void checkHandle(Handle<T> handle) {
+        if (handle.heap != this) {
+            throw new IllegalArgumentException("Handle is not in this heap");
+        }
+    }
+
+    /**
+     * Collects all nodes in depth-first order without recursion, as child
+     * chains of a pairing heap can be as long as the heap itself.
+     */
+    private CustomArrayList<Handle<T>> handles() {
+        CustomArrayList<Handle<T>> result = new CustomArrayList<>(size);
+        CustomArrayList<Handle<T>> stack = new CustomArrayList<>();
+
+        if (root != null) {
+            stack.add(root);
+        }
+        while (!stack.isEmpty()) {
+            for (Handle<T> x = stack.remove(stack.size() - 1); x != null; x = x.sibling) {
+                result.add(x);
+                if (x.child != null) {
+                    stack.add(x.child);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private CustomArrayList<T> values() {
+        CustomArrayList<T> result = new CustomArrayList<>(size);
+
+        for (Handle<T> x : handles()) {
+            result.add(x.value);
+        }
+
+        return result;
+    }
+
+    private Handle<T> find(Object o) {
+        if (o != null) {
+            for (Handle<T> x : handles()) {
+                if (o.equals(x.value)) {
+                    return x;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private boolean filter(Collection c, boolean retain) {
+        boolean modified = false;
+
+        for (Handle<T> x : handles()) {
+            if (c.contains(x.value) != retain) {
+                remove(x);
+                modified = true;
+            }
+        }
+
+        return modified;
+    }
+}
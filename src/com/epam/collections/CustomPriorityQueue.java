@@ -0,0 +1,443 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Custom priority queue implementation.
+ * An array-backed d-ary min-heap ordered by a comparator or by the natural
+ * ordering of the elements. {@code offer} and {@code poll} take O(log n)
+ * comparisons and {@code peek} is O(1). A wider heap (arity 4 by default) is
+ * shallower and keeps the children of a node next to each other in memory.
+ * Iteration order is unspecified. Null elements are not permitted.
+ */
+public class CustomPriorityQueue<T> implements Queue<T> {
+    private static final int DEFAULT_CAPACITY = 11;
+    private static final int DEFAULT_ARITY = 4;
+    private final int arity;
+    private final Comparator<? super T> comparator;
+    private Object[] heap;
+    private int size = 0;
+    private int modCount = 0;
+
+    public CustomPriorityQueue(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity: " + arity);
+        }
+
+        this.arity = arity;
+        this.comparator = comparator;
+        this.heap = new Object[DEFAULT_CAPACITY];
+    }
+
+    public CustomPriorityQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    public CustomPriorityQueue() {
+        this(DEFAULT_ARITY, null);
+    }
+
+    public CustomPriorityQueue(Collection<? extends T> c) {
+        this(DEFAULT_ARITY, null);
+        addAll(c);
+    }
+
+    @Override
+    public boolean offer(T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+
+        modCount++;
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size + (size >> 1) + 1);
+        }
+        siftUp(size++, o);
+
+        return true;
+    }
+
+    @Override
+    public boolean add(T o) {
+        return offer(o);
+    }
+
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        modCount++;
+        T result = (T) heap[0];
+        T moved = (T) heap[--size];
+        heap[size] = null;
+
+        if (size > 0) {
+            siftDown(0, moved);
+        }
+
+        return result;
+    }
+
+    @Override
+    public T remove() {
+        T result = poll();
+
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+
+        return result;
+    }
+
+    @Override
+    public T peek() {
+        return (T) heap[0];
+    }
+
+    @Override
+    public T element() {
+        T result = peek();
+
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+
+        return result;
+    }
+
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+
+        if (i == -1) {
+            return false;
+        }
+        removeAt(i);
+
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        Object[] a = c.toArray();
+
+        for (Object o : a) {
+            if (o == null) {
+                throw new NullPointerException();
+            }
+        }
+        if (a.length == 0) {
+            return false;
+        }
+
+        if (a.length < size) {
+            for (Object o : a) {
+                offer((T) o);
+            }
+        } else {
+            // Appending and rebuilding the heap is linear.
+            modCount++;
+            if (size + a.length > heap.length) {
+                heap = Arrays.copyOf(heap, size + a.length);
+            }
+            System.arraycopy(a, 0, heap, size, a.length);
+            size += a.length;
+            heapify();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (size == 0) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        return filter(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        return filter(c, true);
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+            Arrays.fill(heap, 0, size, null);
+            size = 0;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(heap, size);
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        if (a.length < size) {
+            return (S[]) Arrays.copyOf(heap, size, a.getClass());
+        }
+
+        System.arraycopy(heap, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+
+        return a;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    @Override
+    public Iterator<T> iterator() {
+
+        return new Iterator<T>() {
+            private int modCount = CustomPriorityQueue.this.modCount;
+            private int cursor = 0;
+            private int lastReturned = -1;
+            // Elements moved in front of the cursor by remove(), still to be
+            // returned.
+            private CustomArrayList<T> forgetMeNot;
+            private T lastReturnedElement;
+
+            private void checkMod() {
+                if (modCount != CustomPriorityQueue.this.modCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size || forgetMeNot != null && !forgetMeNot.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                checkMod();
+                if (cursor < size) {
+                    lastReturned = cursor;
+                    return (T) heap[cursor++];
+                }
+                if (forgetMeNot != null && !forgetMeNot.isEmpty()) {
+                    lastReturned = -1;
+                    lastReturnedElement = forgetMeNot.remove(forgetMeNot.size() - 1);
+                    return lastReturnedElement;
+                }
+
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public void remove() {
+                checkMod();
+
+                if (lastReturned != -1) {
+                    T moved = removeAt(lastReturned);
+                    lastReturned = -1;
+
+                    if (moved == null) {
+                        cursor--;
+                    } else {
+                        if (forgetMeNot == null) {
+                            forgetMeNot = new CustomArrayList<>();
+                        }
+                        forgetMeNot.add(moved);
+                    }
+                } else if (lastReturnedElement != null) {
+                    removeByIdentity(lastReturnedElement);
+                    lastReturnedElement = null;
+                } else {
+                    throw new IllegalStateException();
+                }
+
+                modCount = CustomPriorityQueue.this.modCount;
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    private int compare(T a, T b) {
+        return comparator == null ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+    }
+
+    private void siftUp(int k, T x) {
+        while (k > 0) {
+            int parent = (k - 1) / arity;
+            T p = (T) heap[parent];
+
+            if (compare(x, p) >= 0) {
+                break;
+            }
+            heap[k] = p;
+            k = parent;
+        }
+        heap[k] = x;
+    }
+
+    private void siftDown(int k, T x) {
+        while (true) {
+            int child = k * arity + 1;
+
+            if (child >= size) {
+                break;
+            }
+
+            // Smallest of the up to arity children.
+            int end = Math.min(child + arity, size);
+            int min = child;
+            T minValue = (T) heap[child];
+
+            for (int i = child + 1; i < end; i++) {
+                if (compare((T) heap[i], minValue) < 0) {
+                    min = i;
+                    minValue = (T) heap[i];
+                }
+            }
+
+            if (compare(x, minValue) <= 0) {
+                break;
+            }
+            heap[k] = minValue;
+            k = min;
+        }
+        heap[k] = x;
+    }
+
+    private void heapify() {
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, (T) heap[i]);
+        }
+    }
+
+    /**
+     * Removes the element at {@code i}.
+     *
+     * @return the former last element if it ended up before {@code i},
+     * otherwise null
+     */
+    private T removeAt(int i) {
+        modCount++;
+        int s = --size;
+
+        if (s == i) {
+            heap[i] = null;
+            return null;
+        }
+
+        T moved = (T) heap[s];
+        heap[s] = null;
+        siftDown(i, moved);
+
+        if (heap[i] == moved) {
+            siftUp(i, moved);
+            if (heap[i] != moved) {
+                return moved;
+            }
+        }
+
+        return null;
+    }
+
+    private void removeByIdentity(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (heap[i] == o) {
+                removeAt(i);
+                return;
+            }
+        }
+    }
+
+    private int indexOf(Object o) {
+        if (o != null) {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(heap[i])) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean filter(Collection c, boolean retain) {
+        int j = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (c.contains(heap[i]) == retain) {
+                heap[j++] = heap[i];
+            }
+        }
+
+        if (j == size) {
+            return false;
+        }
+
+        modCount++;
+        Arrays.fill(heap, j, size, null);
+        size = j;
+        heapify();
+
+        return true;
+    }
+}
@@ -0,0 +1,387 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * Custom single-producer/single-consumer array queue implementation.
+ * A power-of-two ring indexed by ever-growing tail and head sequences. Only
+ * one thread may offer and only one (possibly other) thread may poll; the
+ * sequences are published with release stores and each side keeps a cached
+ * copy of the other side's sequence, so the common path touches no shared
+ * cache line. The sequences sit on separate, padded cache lines to avoid false
+ * sharing. Null elements are not permitted, and removing elements other than
+ * the head is not supported.
+ */
+public class CustomSpscArrayQueue<T> extends SpscPadding2 implements Queue<T> {
+    private final Object[] buffer;
+    private final int mask;
+    private final int capacity;
+
+    public CustomSpscArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+
+        this.buffer = new Object[length];
+        this.mask = length - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Producer thread only.
+     */
+    @Override
+    public boolean offer(T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+
+        long t = tail;
+
+        if (t - cachedHead >= capacity) {
+            cachedHead = head;
+            if (t - cachedHead >= capacity) {
+                return false;
+            }
+        }
+
+        buffer[(int) t & mask] = o;
+        TAIL.lazySet(this, t + 1);
+
+        return true;
+    }
+
+    /**
+     * Producer thread only.
+     */
+    @Override
+    public boolean add(T o) {
+        if (!offer(o)) {
+            throw new IllegalStateException("Queue full");
+        }
+
+        return true;
+    }
+
+    /**
+     * Producer thread only.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        boolean modified = false;
+
+        for (T o : c) {
+            modified |= add(o);
+        }
+
+        return modified;
+    }
+
+    /**
+     * Consumer thread only.
+     */
+    @Override
+    public T poll() {
+        long h = head;
+
+        if (h >= cachedTail) {
+            cachedTail = tail;
+            if (h >= cachedTail) {
+                return null;
+            }
+        }
+
+        int slot = (int) h & mask;
+        T o = (T) buffer[slot];
+        buffer[slot] = null;
+        HEAD.lazySet(this, h + 1);
+
+        return o;
+    }
+
+    /**
+     * Polls up to {@code limit} elements and hands them to {@code consumer},
+     * publishing the new head once for the whole batch. If the consumer
+     * throws, the elements handed to it so far, including the one it threw
+     * on, are removed and the rest stay queued. Consumer thread only.
+     *
+     * @return the number of elements polled
+     * @throws IllegalArgumentException if {@code limit} is negative
+     */
+    public int drain(Consumer<? super T> consumer, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit: " + limit);
+        }
+
+        long h = head;
+        long available = cachedTail - h;
+
+        if (available < limit) {
+            cachedTail = tail;
+            available = cachedTail - h;
+        }
+
+        int n = (int) Math.min(limit, available);
+        int polled = 0;
+
+        try {
+            while (polled < n) {
+                int slot = (int) (h + polled) & mask;
+                T o = (T) buffer[slot];
+                buffer[slot] = null;
+                polled++;
+                consumer.accept(o);
+            }
+        } finally {
+            if (polled > 0) {
+                HEAD.lazySet(this, h + polled);
+            }
+        }
+
+        return n;
+    }
+
+    /**
+     * Consumer thread only.
+     */
+    @Override
+    public T remove() {
+        T o = poll();
+
+        if (o == null) {
+            throw new NoSuchElementException();
+        }
+
+        return o;
+    }
+
+    /**
+     * Consumer thread only.
+     */
+    @Override
+    public T peek() {
+        long h = head;
+
+        if (h >= cachedTail) {
+            cachedTail = tail;
+            if (h >= cachedTail) {
+                return null;
+            }
+        }
+
+        return (T) buffer[(int) h & mask];
+    }
+
+    /**
+     * Consumer thread only.
+     */
+    @Override
+    public T element() {
+        T o = peek();
+
+        if (o == null) {
+            throw new NoSuchElementException();
+        }
+
+        return o;
+    }
+
+    /**
+     * Consumer thread only.
+     */
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // drain
+        }
+    }
+
+    @Override
+    public int size() {
+        // Read head first so a concurrent poll cannot make the result negative.
+        long h = head;
+        long t = tail;
+
+        return (int) Math.min(capacity, Math.max(0, t - h));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Consumer thread only, or while the queue is not being modified.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        for (long i = head, t = tail; i < t; i++) {
+            if (o.equals(buffer[(int) i & mask])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (isEmpty()) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Consumer thread only, or while the queue is not being modified.
+     */
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    /**
+     * Consumer thread only, or while the queue is not being modified.
+     */
+    @Override
+    public <S> S[] toArray(S[] a) {
+        return snapshot().toArray(a);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    /**
+     * Returns a read-only iterator over a snapshot of the queue. Consumer
+     * thread only, or while the queue is not being modified.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        CustomArrayList<T> snapshot = snapshot();
+
+        return new Iterator<T>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < snapshot.size();
+            }
+
+            @Override
+            public T next() {
+                if (next >= snapshot.size()) {
+                    throw new NoSuchElementException();
+                }
+
+                return snapshot.get(next++);
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    private CustomArrayList<T> snapshot() {
+        CustomArrayList<T> list = new CustomArrayList<>();
+
+        for (long i = head, t = tail; i < t; i++) {
+            T o = (T) buffer[(int) i & mask];
+
+            if (o != null) {
+                list.add(o);
+            }
+        }
+
+        return list;
+    }
+}
+
+// Cache line padding. Field layout follows the class hierarchy, so the
+// producer and consumer sequences each get a cache line of their own.
+
+abstract class SpscPadding0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscProducerFields extends SpscPadding0 {
+    static final AtomicLongFieldUpdater<SpscProducerFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(SpscProducerFields.class, "tail");
+
+    // Next sequence to write, only written by the producer.
+    volatile long tail;
+    // Producer's last read of head.
+    long cachedHead;
+}
+
+abstract class SpscPadding1 extends SpscProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscConsumerFields extends SpscPadding1 {
+    static final AtomicLongFieldUpdater<SpscConsumerFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(SpscConsumerFields.class, "head");
+
+    // Next sequence to read, only written by the consumer.
+    volatile long head;
+    // Consumer's last read of tail.
+    long cachedTail;
+}
+
+abstract class SpscPadding2 extends SpscConsumerFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
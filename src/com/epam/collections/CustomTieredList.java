@@ -0,0 +1,553 @@
+package com.epam.collections;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Custom tiered vector implementation.
+ * Elements are stored in equally sized circular chunks of about sqrt(n) slots,
+ * every chunk but the last one being full. Positional get and set take constant
+ * time, while positional insert and remove shift elements inside a single chunk
+ * and move one element across each following chunk, which is O(sqrt(n)).
+ */
+public class CustomTieredList<T> implements List<T> {
+    private static final int MIN_CHUNK_SHIFT = 4;
+    private static final int INITIAL_CHUNKS = 4;
+    private Object[][] chunks;
+    private int[] heads;
+    private int shift;
+    private int mask;
+    private int size = 0;
+    private int modCount = 0;
+
+    public CustomTieredList() {
+        shift = MIN_CHUNK_SHIFT;
+        mask = (1 << shift) - 1;
+        chunks = new Object[INITIAL_CHUNKS][];
+        heads = new int[INITIAL_CHUNKS];
+    }
+
+    public CustomTieredList(Collection<? extends T> c) {
+        Object[] a = c.toArray();
+        layout(a, a.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+
+        for (int c = 0; index < size; c++) {
+            Object[] chunk = chunks[c];
+            int h = heads[c];
+            int count = Math.min(mask + 1, size - index);
+
+            for (int off = 0; off < count; off++, index++) {
+                if (o.equals(chunk[(h + off) & mask])) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (o.equals(element(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array, 0);
+
+        return array;
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        if (a.length < size) {
+            a = (S[]) Array.newInstance(a.getClass().getComponentType(), size);
+        } else if (a.length > size) {
+            a[size] = null;
+        }
+        copyTo(a, 0);
+
+        return a;
+    }
+
+    @Override
+    public T get(int index) {
+        checkBoundExclusive(index);
+        return element(index);
+    }
+
+    @Override
+    public T set(int index, T o) {
+        checkBoundExclusive(index);
+        Object[] chunk = chunks[index >>> shift];
+        int slot = (heads[index >>> shift] + index) & mask;
+        T result = (T) chunk[slot];
+        chunk[slot] = o;
+
+        return result;
+    }
+
+    @Override
+    public boolean add(T o) {
+        modCount++;
+        growIfFull();
+
+        int c = size >>> shift;
+
+        if (chunks[c] == null) {
+            chunks[c] = new Object[mask + 1];
+        }
+        chunks[c][(heads[c] + size) & mask] = o;
+        size++;
+
+        return true;
+    }
+
+    @Override
+    public void add(int index, T o) {
+        checkBoundInclusive(index);
+        modCount++;
+        growIfFull();
+
+        int c = index >>> shift;
+        int last = size >>> shift;
+
+        if (chunks[last] == null) {
+            chunks[last] = new Object[mask + 1];
+        }
+
+        // Make room in chunk c by pushing the last element of every full chunk
+        // in front of the next one.
+        for (int d = last; d > c; d--) {
+            Object[] previous = chunks[d - 1];
+            int tail = (heads[d - 1] + mask) & mask;
+
+            heads[d] = (heads[d] - 1) & mask;
+            chunks[d][heads[d]] = previous[tail];
+            previous[tail] = null;
+        }
+
+        int count = c < last ? mask : size - (c << shift);
+        insertIntoChunk(c, index & mask, count, o);
+        size++;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkBoundExclusive(index);
+        modCount++;
+
+        int c = index >>> shift;
+        int last = (size - 1) >>> shift;
+        int count = c < last ? mask + 1 : size - (c << shift);
+        T t = removeFromChunk(c, index & mask, count);
+
+        // Close the gap left at the end of chunk c by pulling the first element
+        // of every following chunk back into the previous one.
+        for (int d = c + 1; d <= last; d++) {
+            Object[] chunk = chunks[d];
+            int h = heads[d];
+
+            chunks[d - 1][(heads[d - 1] + mask) & mask] = chunk[h];
+            chunk[h] = null;
+            heads[d] = (h + 1) & mask;
+        }
+        size--;
+
+        return t;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+            Arrays.fill(chunks, null);
+            Arrays.fill(heads, 0);
+            size = 0;
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        checkBoundInclusive(index);
+        Object[] a = c.toArray();
+
+        if (a.length == 0) {
+            return false;
+        }
+
+        modCount++;
+        if (index == size) {
+            for (Object o : a) {
+                add((T) o);
+            }
+            return true;
+        }
+
+        // A middle insert of a whole batch is cheaper as one linear rebuild.
+        Object[] all = new Object[size + a.length];
+        copyTo(all, 0);
+        System.arraycopy(all, index, all, index + a.length, size - index);
+        System.arraycopy(a, 0, all, index, a.length);
+        layout(all, all.length);
+
+        return true;
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("Lower index: " + fromIndex +
+                                               " bigger than upper index: " + toIndex);
+        }
+
+        checkBoundInclusive(fromIndex);
+        checkBoundInclusive(toIndex);
+
+        List<T> newList = new CustomTieredList<>();
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            newList.add(element(i));
+        }
+
+        return newList;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        return filter(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        return filter(c, true);
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (size == 0) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        checkBoundInclusive(index);
+
+        return new ListIterator<T>() {
+            int currentIndex = index;
+            int lastReturned = -1;
+            int modCount = CustomTieredList.this.modCount;
+
+            @Override
+            public boolean hasNext() {
+                checkMod();
+                return currentIndex < size;
+            }
+
+            @Override
+            public T next() {
+                checkMod();
+                if (currentIndex >= size) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = currentIndex;
+                return element(currentIndex++);
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                checkMod();
+                return currentIndex > 0;
+            }
+
+            @Override
+            public T previous() {
+                checkMod();
+                if (currentIndex <= 0) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = --currentIndex;
+                return element(currentIndex);
+            }
+
+            @Override
+            public int nextIndex() {
+                checkMod();
+                return currentIndex;
+            }
+
+            @Override
+            public int previousIndex() {
+                checkMod();
+                return currentIndex - 1;
+            }
+
+            @Override
+            public void remove() {
+                checkMod();
+                if (lastReturned == -1) {
+                    throw new IllegalStateException();
+                }
+                CustomTieredList.this.remove(lastReturned);
+                currentIndex = lastReturned;
+                lastReturned = -1;
+                modCount = CustomTieredList.this.modCount;
+            }
+
+            @Override
+            public void set(T t) {
+                checkMod();
+                if (lastReturned == -1) {
+                    throw new IllegalStateException();
+                }
+                CustomTieredList.this.set(lastReturned, t);
+            }
+
+            @Override
+            public void add(T t) {
+                checkMod();
+                CustomTieredList.this.add(currentIndex++, t);
+                lastReturned = -1;
+                modCount = CustomTieredList.this.modCount;
+            }
+
+            private void checkMod() {
+                if (modCount != CustomTieredList.this.modCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    private T element(int index) {
+        int c = index >>> shift;
+        return (T) chunks[c][(heads[c] + index) & mask];
+    }
+
+    private void insertIntoChunk(int c, int off, int count, T o) {
+        Object[] chunk = chunks[c];
+        int h = heads[c];
+
+        if (off < count - off) {
+            h = (h - 1) & mask;
+            for (int i = 0; i < off; i++) {
+                chunk[(h + i) & mask] = chunk[(h + i + 1) & mask];
+            }
+            heads[c] = h;
+        } else {
+            for (int i = count; i > off; i--) {
+                chunk[(h + i) & mask] = chunk[(h + i - 1) & mask];
+            }
+        }
+        chunk[(h + off) & mask] = o;
+    }
+
+    private T removeFromChunk(int c, int off, int count) {
+        Object[] chunk = chunks[c];
+        int h = heads[c];
+        T t = (T) chunk[(h + off) & mask];
+
+        if (off < count / 2) {
+            for (int i = off; i > 0; i--) {
+                chunk[(h + i) & mask] = chunk[(h + i - 1) & mask];
+            }
+            chunk[h] = null;
+            heads[c] = (h + 1) & mask;
+        } else {
+            for (int i = off; i < count - 1; i++) {
+                chunk[(h + i) & mask] = chunk[(h + i + 1) & mask];
+            }
+            chunk[(h + count - 1) & mask] = null;
+        }
+
+        return t;
+    }
+
+    private void growIfFull() {
+        if (size < chunks.length << shift) {
+            return;
+        }
+
+        if (chunks.length < 2 << shift) {
+            int length = chunks.length * 2;
+            chunks = Arrays.copyOf(chunks, length);
+            heads = Arrays.copyOf(heads, length);
+        } else {
+            layout(toArray(), size);
+        }
+    }
+
+    /**
+     * Rebuilds the chunks from the first {@code count} elements of {@code a},
+     * choosing a chunk size of about sqrt(count).
+     */
+    private void layout(Object[] a, int count) {
+        int newShift = MIN_CHUNK_SHIFT;
+
+        while ((1L << (2 * newShift)) < count) {
+            newShift++;
+        }
+
+        int chunkSize = 1 << newShift;
+        int used = (count + chunkSize - 1) >>> newShift;
+        int length = Math.max(INITIAL_CHUNKS, used * 2);
+        Object[][] newChunks = new Object[length][];
+
+        for (int c = 0; c < used; c++) {
+            newChunks[c] = new Object[chunkSize];
+            System.arraycopy(a, c << newShift, newChunks[c], 0,
+                             Math.min(chunkSize, count - (c << newShift)));
+        }
+
+        chunks = newChunks;
+        heads = new int[length];
+        shift = newShift;
+        mask = chunkSize - 1;
+        size = count;
+    }
+
+    private boolean filter(Collection c, boolean retain) {
+        int i, j;
+
+        for (i = 0; i < size; i++) {
+            if (c.contains(element(i)) != retain) {
+                break;
+            }
+        }
+        if (i == size) {
+            return false;
+        }
+
+        modCount++;
+
+        for (j = i++; i < size; i++) {
+            T t = element(i);
+
+            if (c.contains(t) == retain) {
+                int chunk = j >>> shift;
+                chunks[chunk][(heads[chunk] + j++) & mask] = t;
+            }
+        }
+        for (i = j; i < size; i++) {
+            int chunk = i >>> shift;
+            chunks[chunk][(heads[chunk] + i) & mask] = null;
+        }
+
+        size = j;
+
+        return true;
+    }
+
+    void copyTo(Object[] dest, int destPos) {
+        int copied = 0;
+
+        for (int c = 0; copied < size; c++) {
+            int count = Math.min(mask + 1, size - copied);
+            int h = heads[c];
+            int firstPart = Math.min(count, mask + 1 - h);
+
+            System.arraycopy(chunks[c], h, dest, destPos + copied, firstPart);
+            System.arraycopy(chunks[c], 0, dest, destPos + copied + firstPart, count - firstPart);
+            copied += count;
+        }
+    }
+
+    private void checkBoundInclusive(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkBoundExclusive(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -10,6 +10,8 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
     private Node<T> root = null;
     private int size = 0;
     private int modCount = 0;
+    // Optional membership filter covering every element. Null if disabled.
+    private BloomFilter filter;
 
     private final static class Node<T> {
         Node<T> left;
@@ -33,6 +35,12 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
         }
     }
 
+    public CustomTreeSet() {}
+
+    public CustomTreeSet(Collection<? extends T> c) {
+        addAll(c);
+    }
+
     @Override
     public int size() {
         return size;
@@ -43,25 +51,39 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
         return size == 0;
     }
 
-    @Override
-    public boolean contains(Object o) {
-        Node<T> current = root;
-        T k = (T) o;
-        int cmp;
-
-        while (current != null) {
-            cmp = k.compareTo(current.value);
+    /**
+     * Returns the estimated number of bytes retained by the set and its
+     * nodes, not counting the elements themselves.
+     */
+    public long footprint() {
+        return Footprint.object(2, 2 * Integer.BYTES) + (long) size * Footprint.object(4, 0)
+                + (filter == null ? 0 : filter.footprint());
+    }
 
-            if (cmp == 0) {
-                return true;
-            } else if (cmp < 0) {
-                current = current.left;
-            } else { //(cmp > 0)
-                current = current.right;
-            }
+    /**
+     * Puts a Bloom filter in front of contains and remove, so that most
+     * lookups of absent elements return without descending the tree. The
+     * filter is kept up to date on every insertion and rebuilt lazily after
+     * removals. Elements must have a hashCode consistent with compareTo.
+     * Since a lookup may rebuild the filter, a set using it cannot be read
+     * concurrently, not even through a {@link StampedTreeSet}.
+     */
+    public void setMembershipFilterEnabled(boolean enabled) {
+        if (!enabled) {
+            filter = null;
+        } else if (filter == null) {
+            filter = new BloomFilter();
+            filter.invalidate();
         }
+    }
 
-        return false;
+    public boolean isMembershipFilterEnabled() {
+        return filter != null;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return mightContain(o) && getNode((T) o) != null;
     }
 
     @Override
@@ -76,7 +98,7 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
     @Override
     public Object[] toArray() {
         Object[] a = new Object[size];
-        fillArray(root, a, 0);
+        copyTo(a, 0);
 
         return a;
     }
@@ -88,7 +110,7 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
         } else if (a.length > size) {
             a[size] = null;
         }
-        System.arraycopy(toArray(), 0, a, 0, size);
+        copyTo(a, 0);
 
         return a;
     }
@@ -100,11 +122,13 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
         } else {
             Node<T> current = root;
             Node<T> parent = null;
+            int depth = 0;
             int cmp = 0;
 
             while (current != null) {
                 parent = current;
                 cmp = o.compareTo(current.value);
+                depth++;
 
                 if (cmp > 0) {
                     current = current.right;
@@ -115,6 +139,10 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
                 }
             }
 
+            if (CollectionMetrics.ENABLED) {
+                CollectionMetrics.recordTreeInsert(depth);
+            }
+
             Node<T> newNode = new Node<>(o);
             newNode.parent = parent;
 
@@ -124,6 +152,9 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
                 parent.left = newNode;
             }
         }
+        if (filter != null) {
+            filter.add(o);
+        }
 
         modCount++;
         size++;
@@ -133,6 +164,10 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
 
     @Override
     public boolean remove(Object o) {
+        if (!mightContain(o)) {
+            return false;
+        }
+
         Node<T> node = getNode((T) o);
 
         if (node == null) {
@@ -145,9 +180,17 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
 
     @Override
     public boolean addAll(Collection<? extends T> c) {
-        if (c.size() == 0) {
+        int cSize = c.size();
+
+        if (cSize == 0) {
             return false;
         }
+        // Rebuilding costs O(size + cSize) whatever cSize is, so it only pays
+        // off for a batch comparable to the set. A sorted source skips the
+        // sort and gets there at half the size.
+        if (size == 0 || cSize >= (c instanceof CustomTreeSet ? size >>> 1 : size)) {
+            return bulkAdd(c);
+        }
 
         Iterator<? extends T> iterator = c.iterator();
         boolean flag = false;
@@ -169,15 +212,17 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
 
         Iterator<T> iterator = iterator();
         Node<T> temp = null;
+        boolean found = false;
 
         while (iterator.hasNext()) {
             temp = getNode(iterator.next());
 
             if (c.contains(temp.value)) {
+                found = true;
                 break;
             }
         }
-        if (!iterator.hasNext()) {
+        if (!found) {
             return false;
         }
 
@@ -206,15 +251,17 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
 
         Iterator<T> iterator = iterator();
         Node<T> temp = null;
+        boolean found = false;
 
         while (iterator.hasNext()) {
             temp = getNode(iterator.next());
 
             if (!c.contains(temp.value)) {
+                found = true;
                 break;
             }
         }
-        if (!iterator.hasNext()) {
+        if (!found) {
             return false;
         }
 
@@ -270,6 +317,49 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
         return sb.toString();
     }
 
+    /**
+     * Returns a lazy query over all elements in ascending order.
+     */
+    public Query<T> query() {
+        return query(null, true, null, true);
+    }
+
+    /**
+     * Returns a lazy query over the elements between {@code from} and
+     * {@code to} in ascending order; a null bound leaves that side open.
+     * The range is not a filter stage: a terminal operation descends straight
+     * to the first element in range, skipping every subtree below it, and
+     * ends the walk at the first element past {@code to}.
+     */
+    public Query<T> query(T from, boolean fromInclusive, T to, boolean toInclusive) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("from > to");
+        }
+
+        return new Query<>(sink -> {
+            int expectedModCount = modCount;
+
+            for (Node<T> n = lowerNode(from, fromInclusive); n != null; n = successor(n)) {
+                if (to != null) {
+                    int cmp = n.value.compareTo(to);
+
+                    if (cmp > 0 || cmp == 0 && !toInclusive) {
+                        return;
+                    }
+                }
+
+                boolean more = sink.accept(n.value);
+
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!more) {
+                    return;
+                }
+            }
+        });
+    }
+
     //Iterator
 
     @Override
@@ -334,29 +424,142 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
 
     // Auxiliary methods
 
-    private int fillArray(Node root, Object[] a, int pos) {
-        if (root.left != null) {
-            pos = fillArray(root.left, a, pos);
+    void copyTo(Object[] dest, int destPos) {
+        // Walks the nodes in order instead of recursing, because sorted
+        // inserts can make the tree as deep as it is large.
+        for (Node<T> n = lowerNode(null, true); n != null; n = successor(n)) {
+            dest[destPos++] = n.value;
+        }
+    }
+
+    /**
+     * Merges the sorted elements of {@code c} with the current ones and
+     * rebuilds a balanced tree from the result in linear time.
+     */
+    private boolean bulkAdd(Collection<? extends T> c) {
+        Object[] added = c.toArray();
+
+        if (!(c instanceof CustomTreeSet)) {
+            Arrays.sort(added);
+        }
+
+        Object[] current = toArray();
+        Object[] merged = new Object[current.length + added.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < current.length || j < added.length) {
+            T next;
+
+            if (j == added.length
+                    || i < current.length && ((T) current[i]).compareTo((T) added[j]) <= 0) {
+                next = (T) current[i++];
+            } else {
+                next = (T) added[j++];
+            }
+            if (count == 0 || ((T) merged[count - 1]).compareTo(next) != 0) {
+                merged[count++] = next;
+            }
+        }
+
+        if (count == size) {
+            return false;
+        }
+
+        root = buildBalanced(merged, 0, count, null);
+        size = count;
+        modCount++;
+        if (filter != null) {
+            filter.invalidate();
         }
 
-        a[pos++] = root.value;
+        return true;
+    }
 
-        if (root.right != null) {
-            pos = fillArray(root.right, a, pos);
+    private Node<T> buildBalanced(Object[] a, int from, int to, Node<T> parent) {
+        if (from == to) {
+            return null;
         }
 
-        return pos;
+        int mid = (from + to) >>> 1;
+        Node<T> node = new Node<>((T) a[mid]);
+
+        node.parent = parent;
+        node.left = buildBalanced(a, from, mid, node);
+        node.right = buildBalanced(a, mid + 1, to, node);
+
+        return node;
+    }
+
+    /**
+     * Returns the smallest node above {@code from}, or at it if
+     * {@code inclusive}; the smallest node of all if {@code from} is null.
+     */
+    private Node<T> lowerNode(T from, boolean inclusive) {
+        Node<T> current = root;
+        Node<T> result = null;
+
+        while (current != null) {
+            int cmp = from == null ? 1 : current.value.compareTo(from);
+
+            if (cmp > 0 || cmp == 0 && inclusive) {
+                result = current;
+                current = current.left;
+            } else {
+                current = current.right;
+            }
+        }
+
+        return result;
+    }
+
+    private static <T> Node<T> successor(Node<T> node) {
+        if (node.right != null) {
+            node = node.right;
+            while (node.left != null) {
+                node = node.left;
+            }
+            return node;
+        }
+
+        while (node.parent != null && node.parent.right == node) {
+            node = node.parent;
+        }
+
+        return node.parent;
+    }
+
+    /**
+     * Asks the membership filter, rebuilding it first if it is stale.
+     *
+     * @return false if {@code o} is definitely not in the set
+     */
+    private boolean mightContain(Object o) {
+        if (filter == null) {
+            return true;
+        }
+        if (filter.isStale(size)) {
+            filter.reset(size);
+            for (Node<T> n = lowerNode(null, true); n != null; n = successor(n)) {
+                filter.add(n.value);
+            }
+        }
+
+        return filter.mightContain(o);
     }
 
     private Node<T> getNode(T k) {
         Node<T> current = root;
+        int comparisons = 0;
         int cmp;
 
         while (current != null) {
             cmp = k.compareTo(current.value);
+            comparisons++;
 
             if (cmp == 0) {
-                return current;
+                break;
             } else if (cmp < 0) {
                 current = current.left;
             } else { //(cmp > 0)
@@ -364,7 +567,11 @@ public class CustomTreeSet<T extends Comparable<T>> implements Set<T> {
             }
         }
 
-        return null;
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.recordTreeLookup(comparisons);
+        }
+
+        return current;
     }
 
     private void removeNode(Node<T> node) {
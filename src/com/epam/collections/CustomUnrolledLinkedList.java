@@ -0,0 +1,656 @@
+package com.epam.collections;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Custom unrolled linked list implementation.
+ * Offers the same queue and positional API as {@link CustomLinkedList}, but
+ * every node holds a small array of elements, which cuts the per-element
+ * overhead and turns scans into mostly sequential array reads.
+ */
+public class CustomUnrolledLinkedList<T> implements Iterable<T>, Queue<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+    private final int nodeCapacity;
+    private Node first;
+    private Node last;
+    private int size = 0;
+    private int modCount = 0;
+
+    // Result of the last seek: the node holding the element and its offset
+    // from the node start.
+    private Node cursor;
+    private int cursorOffset;
+
+    /**
+     * Node holding its elements in {@code items[start, end)}.
+     */
+    private static final class Node {
+        private final Object[] items;
+        private int start;
+        private int end;
+        private Node next;
+        private Node previous;
+
+        public Node(int capacity, int start) {
+            items = new Object[capacity];
+            this.start = start;
+            this.end = start;
+        }
+
+        private int count() {
+            return end - start;
+        }
+    }
+
+    public CustomUnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    public CustomUnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity: " + nodeCapacity);
+        }
+
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    public CustomUnrolledLinkedList(Collection<? extends T> c) {
+        this(DEFAULT_NODE_CAPACITY);
+        addAll(c);
+    }
+
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (T) first.items[first.start];
+    }
+
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (T) last.items[last.end - 1];
+    }
+
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        modCount++;
+        size--;
+
+        Node n = first;
+        T r = (T) n.items[n.start];
+        n.items[n.start++] = null;
+
+        if (n.count() == 0) {
+            unlink(n);
+        }
+
+        return r;
+    }
+
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        modCount++;
+        size--;
+
+        Node n = last;
+        T r = (T) n.items[--n.end];
+        n.items[n.end] = null;
+
+        if (n.count() == 0) {
+            unlink(n);
+        }
+
+        return r;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        for (Node n = first; n != null; n = n.next) {
+            for (int i = n.start; i < n.end; i++) {
+                if (o.equals(n.items[i])) {
+                    removeAt(n, i - n.start);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    public void addFirst(T o) {
+        modCount++;
+        if (first == null || first.start == 0) {
+            Node n = new Node(nodeCapacity, nodeCapacity);
+
+            if (first == null) {
+                first = last = n;
+            } else {
+                n.next = first;
+                first.previous = n;
+                first = n;
+            }
+        }
+        first.items[--first.start] = o;
+        size++;
+    }
+
+    public void addLast(T o) {
+        modCount++;
+        if (last == null || last.end == nodeCapacity) {
+            linkAfter(last, new Node(nodeCapacity, 0));
+        }
+        last.items[last.end++] = o;
+        size++;
+    }
+
+    @Override
+    public boolean add(T o) {
+        addLast(o);
+
+        return true;
+    }
+
+    public void add(int index, T o) {
+        checkBoundInclusive(index);
+
+        if (index == size) {
+            addLast(o);
+        } else if (index == 0) {
+            addFirst(o);
+        } else {
+            seek(index);
+            insertAt(cursor, cursorOffset, o);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size, c);
+    }
+
+    public boolean addAll(int index, Collection<? extends T> c) {
+        checkBoundInclusive(index);
+        Object[] a = c.toArray();
+
+        if (a.length == 0) {
+            return false;
+        }
+
+        if (index == size) {
+            for (Object o : a) {
+                addLast((T) o);
+            }
+            return true;
+        }
+
+        // Split the node at the insertion point and link full nodes built
+        // straight from the array in between.
+        seek(index);
+        Node n = cursor;
+        int split = n.start + cursorOffset;
+        int moved = n.end - split;
+        Node tail = new Node(nodeCapacity, 0);
+
+        System.arraycopy(n.items, split, tail.items, 0, moved);
+        Arrays.fill(n.items, split, n.end, null);
+        n.end = split;
+        tail.end = moved;
+
+        Node previous = n;
+
+        for (int pos = 0; pos < a.length; pos += nodeCapacity) {
+            Node m = new Node(nodeCapacity, 0);
+            m.end = Math.min(nodeCapacity, a.length - pos);
+            System.arraycopy(a, pos, m.items, 0, m.end);
+            linkAfter(previous, m);
+            previous = m;
+        }
+        linkAfter(previous, tail);
+
+        if (n.count() == 0) {
+            unlink(n);
+        }
+
+        modCount++;
+        size += a.length;
+
+        return true;
+    }
+
+    public int indexOf(Object o) {
+        int index = 0;
+
+        for (Node n = first; n != null; n = n.next) {
+            for (int i = n.start; i < n.end; i++, index++) {
+                if (o.equals(n.items[i])) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+
+        for (Node n = last; n != null; n = n.previous) {
+            for (int i = n.end - 1; i >= n.start; i--, index--) {
+                if (o.equals(n.items[i])) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array, 0);
+
+        return array;
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        if (a.length < size) {
+            a = (S[]) Array.newInstance(a.getClass().getComponentType(), size);
+        } else if (a.length > size) {
+            a[size] = null;
+        }
+        copyTo(a, 0);
+
+        return a;
+    }
+
+    public T get(int index) {
+        checkBoundExclusive(index);
+        seek(index);
+
+        return (T) cursor.items[cursor.start + cursorOffset];
+    }
+
+    public T set(int index, T o) {
+        checkBoundExclusive(index);
+        seek(index);
+
+        int i = cursor.start + cursorOffset;
+        T old = (T) cursor.items[i];
+        cursor.items[i] = o;
+
+        return old;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        return removeFirst();
+    }
+
+    @Override
+    public boolean offer(T value) {
+        return add(value);
+    }
+
+    @Override
+    public T peek() {
+        if (size == 0) {
+            return null;
+        }
+
+        return getFirst();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            modCount++;
+            first = null;
+            last = null;
+            cursor = null;
+            size = 0;
+        }
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        if (size == 0) {
+            return false;
+        }
+
+        Iterator iterator = c.iterator();
+
+        while (iterator.hasNext()) {
+            if (!contains(iterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        return filter(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        return filter(c, true);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator iterator = iterator();
+
+        sb.append("[");
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    //Iterator
+
+    @Override
+    public Iterator<T> iterator() {
+
+        return new Iterator<T>() {
+            private int modCount = CustomUnrolledLinkedList.this.modCount;
+            private Node node = first;
+            private int offset = 0;
+            private int index = 0;
+            private boolean canRemove = false;
+
+            private void checkMod() {
+                if (modCount != CustomUnrolledLinkedList.this.modCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                checkMod();
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                while (offset >= node.count()) {
+                    node = node.next;
+                    offset = 0;
+                }
+                index++;
+                canRemove = true;
+
+                return (T) node.items[node.start + offset++];
+            }
+
+            @Override
+            public void remove() {
+                checkMod();
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+
+                removeAt(node, --offset);
+                index--;
+                canRemove = false;
+                modCount = CustomUnrolledLinkedList.this.modCount;
+
+                // removeAt keeps the offsets of the remaining elements and
+                // only merges the successor into the node, so the next
+                // element stays at the same offset unless the node emptied
+                // and was unlinked.
+                if (node.count() == 0) {
+                    node = node.next;
+                    offset = 0;
+                }
+            }
+        };
+    }
+
+    //Auxiliary methods
+
+    void copyTo(Object[] dest, int destPos) {
+        for (Node n = first; n != null; n = n.next) {
+            System.arraycopy(n.items, n.start, dest, destPos, n.count());
+            destPos += n.count();
+        }
+    }
+
+    /**
+     * Finds the node holding {@code index}, walking from the nearer end, and
+     * stores it with the element offset into {@code cursor} and
+     * {@code cursorOffset}.
+     */
+    private void seek(int index) {
+        Node n;
+
+        if (index < size / 2) {
+            n = first;
+            while (index >= n.count()) { //iterate from start
+                index -= n.count();
+                n = n.next;
+            }
+        } else { //index >= size / 2
+            int remaining = size - index;
+            n = last;
+            while (remaining > n.count()) { //iterate from end
+                remaining -= n.count();
+                n = n.previous;
+            }
+            index = n.count() - remaining;
+        }
+
+        cursor = n;
+        cursorOffset = index;
+    }
+
+    private void insertAt(Node n, int offset, T o) {
+        if (n.count() == nodeCapacity) {
+            // Split a full node in two halves.
+            int half = nodeCapacity / 2;
+            Node m = new Node(nodeCapacity, 0);
+
+            m.end = nodeCapacity - half;
+            System.arraycopy(n.items, n.start + half, m.items, 0, m.end);
+            Arrays.fill(n.items, n.start + half, n.end, null);
+            n.end = n.start + half;
+            linkAfter(n, m);
+
+            if (offset > half) {
+                n = m;
+                offset -= half;
+            }
+        }
+
+        int i = n.start + offset;
+
+        if (n.end < nodeCapacity) {
+            System.arraycopy(n.items, i, n.items, i + 1, n.end - i);
+            n.end++;
+        } else { // room at the start
+            System.arraycopy(n.items, n.start, n.items, n.start - 1, offset);
+            n.start--;
+            i--;
+        }
+        n.items[i] = o;
+
+        modCount++;
+        size++;
+    }
+
+    private void removeAt(Node n, int offset) {
+        int count = n.count();
+        int i = n.start + offset;
+
+        if (offset < count / 2) {
+            System.arraycopy(n.items, n.start, n.items, n.start + 1, offset);
+            n.items[n.start++] = null;
+        } else {
+            System.arraycopy(n.items, i + 1, n.items, i, n.end - i - 1);
+            n.items[--n.end] = null;
+        }
+
+        modCount++;
+        size--;
+
+        if (n.count() == 0) {
+            unlink(n);
+        } else if (n.count() < nodeCapacity / 4 && n.next != null
+                   && n.count() + n.next.count() <= nodeCapacity / 2) {
+            merge(n, n.next);
+        }
+    }
+
+    /**
+     * Moves all elements of {@code m}, the successor of {@code n}, into
+     * {@code n} and unlinks {@code m}.
+     */
+    private void merge(Node n, Node m) {
+        int count = n.count();
+
+        if (n.start > 0) {
+            System.arraycopy(n.items, n.start, n.items, 0, count);
+            Arrays.fill(n.items, Math.max(count, n.start), n.end, null);
+            n.start = 0;
+            n.end = count;
+        }
+
+        System.arraycopy(m.items, m.start, n.items, n.end, m.count());
+        n.end += m.count();
+        unlink(m);
+    }
+
+    private boolean filter(Collection c, boolean retain) {
+        boolean modified = false;
+        Node n = first;
+
+        while (n != null) {
+            Node next = n.next;
+            int j = n.start;
+
+            for (int i = n.start; i < n.end; i++) {
+                if (c.contains(n.items[i]) == retain) {
+                    n.items[j++] = n.items[i];
+                }
+            }
+
+            if (j != n.end) {
+                modified = true;
+                size -= n.end - j;
+                Arrays.fill(n.items, j, n.end, null);
+                n.end = j;
+
+                if (n.count() == 0) {
+                    unlink(n);
+                }
+            }
+
+            n = next;
+        }
+
+        if (modified) {
+            modCount++;
+        }
+
+        return modified;
+    }
+
+    private void linkAfter(Node n, Node m) {
+        m.previous = n;
+
+        if (n == null) {
+            m.next = first;
+            first = m;
+        } else {
+            m.next = n.next;
+            n.next = m;
+        }
+
+        if (m.next == null) {
+            last = m;
+        } else {
+            m.next.previous = m;
+        }
+    }
+
+    private void unlink(Node n) {
+        if (n.previous == null) {
+            first = n.next;
+        } else {
+            n.previous.next = n.next;
+        }
+
+        if (n.next == null) {
+            last = n.previous;
+        } else {
+            n.next.previous = n.previous;
+        }
+    }
+
+    private void checkBoundInclusive(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkBoundExclusive(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.epam.collections;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Custom work-stealing deque implementation after Chase and Lev.
+ * The owner thread pushes and pops at the bottom end, like
+ * {@link CustomLinkedList#addFirst} and {@link CustomLinkedList#removeFirst},
+ * and only synchronizes with thieves when a single element is left. Any other
+ * thread may steal from the top end, like {@link CustomLinkedList#removeLast},
+ * with one CAS. The circular array grows when full. Null elements are not
+ * permitted.
+ */
+public class CustomWorkStealingDeque<T> {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final AtomicLongFieldUpdater<CustomWorkStealingDeque> TOP =
+            AtomicLongFieldUpdater.newUpdater(CustomWorkStealingDeque.class, "top");
+
+    // Next index to steal from, only ever incremented.
+    private volatile long top = 0;
+    // Next index to push to, only written by the owner.
+    private volatile long bottom = 0;
+    private volatile AtomicReferenceArray<T> array;
+    // Indices below this no longer hold stolen elements, only used by the owner.
+    private long cleared = 0;
+
+    public CustomWorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CustomWorkStealingDeque(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        array = new AtomicReferenceArray<>(Integer.highestOneBit(initialCapacity - 1 | 1) << 1);
+    }
+
+    /**
+     * Adds an element at the bottom. Owner thread only.
+     */
+    public void push(T o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+
+        long b = bottom;
+        long t = top;
+        AtomicReferenceArray<T> a = array;
+
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        clearStolen(a, t, b);
+        a.lazySet((int) b & (a.length() - 1), o);
+        bottom = b + 1;
+    }
+
+    /**
+     * Removes the most recently pushed element. Owner thread only.
+     *
+     * @return the element, or null if the deque is empty or a thief took the
+     * last element
+     */
+    public T pop() {
+        long b = bottom - 1;
+        AtomicReferenceArray<T> a = array;
+
+        // The volatile write to bottom is ordered before the read of top, so
+        // a concurrent thief either sees the smaller bottom or loses the CAS.
+        bottom = b;
+        long t = top;
+
+        if (t > b) { // empty
+            bottom = b + 1;
+            clearStolen(a, t, b + 1);
+            return null;
+        }
+
+        int i = (int) b & (a.length() - 1);
+        T o = a.get(i);
+
+        if (t == b) {
+            // Last element: race thieves for it. Either way top is now t + 1,
+            // and clearStolen releases the slot.
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                o = null;
+            }
+            bottom = b + 1;
+            clearStolen(a, t + 1, b + 1);
+            return o;
+        }
+
+        a.lazySet(i, null);
+        clearStolen(a, t, b);
+
+        return o;
+    }
+
+    /**
+     * Removes the oldest element. May be called from any thread. The stolen
+     * element's slot is cleared by the owner's next push or pop.
+     *
+     * @return the element, or null if the deque is empty or another thread
+     * won the race for it
+     */
+    public T steal() {
+        long t = top;
+        long b = bottom;
+
+        if (t >= b) {
+            return null;
+        }
+
+        AtomicReferenceArray<T> a = array;
+        T o = a.get((int) t & (a.length() - 1));
+
+        if (o == null || !TOP.compareAndSet(this, t, t + 1)) {
+            return null;
+        }
+
+        return o;
+    }
+
+    public boolean isEmpty() {
+        return bottom <= top;
+    }
+
+    /**
+     * Returns the number of elements, which is only a snapshot while other
+     * threads are stealing.
+     */
+    public int size() {
+        long t = top;
+        long b = bottom;
+
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, b - t));
+    }
+
+    //Auxiliary methods
+
+    /**
+     * Clears the slots of elements stolen since the last call, given the
+     * owner's current view of top {@code t} and bottom {@code b}. Thieves do
+     * not clear their own slot, because by the time they could, the owner
+     * may already have reused it for a new push. Indices below
+     * {@code b - length} are skipped for the same reason.
+     */
+    private void clearStolen(AtomicReferenceArray<T> a, long t, long b) {
+        int mask = a.length() - 1;
+
+        for (long i = Math.max(cleared, b - a.length()); i < t; i++) {
+            a.lazySet((int) i & mask, null);
+        }
+        if (t > cleared) {
+            cleared = t;
+        }
+    }
+
+    /**
+     * Copies elements {@code t..b-1} into an array twice as large. The old
+     * array is left intact for thieves still reading from it.
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> a, long t, long b) {
+        AtomicReferenceArray<T> newArray = new AtomicReferenceArray<>(a.length() * 2);
+        int oldMask = a.length() - 1;
+        int newMask = newArray.length() - 1;
+
+        for (long i = t; i < b; i++) {
+            newArray.lazySet((int) i & newMask, a.get((int) i & oldMask));
+        }
+        array = newArray;
+
+        return newArray;
+    }
+}
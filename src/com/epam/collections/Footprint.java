@@ -0,0 +1,50 @@
+package com.epam.collections;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Estimated heap sizes of objects, used by the {@code footprint()} methods.
+ * Assumes a 64-bit HotSpot layout with 8-byte alignment. Headers and references
+ * take 12 and 4 bytes with compressed oops, and 16 and 8 bytes without them.
+ * Field packing is ignored, so the results are estimates, not exact sizes.
+ */
+final class Footprint {
+    private static final boolean COMPRESSED_OOPS = compressedOops();
+    private static final int HEADER = COMPRESSED_OOPS ? 12 : 16;
+    private static final int ARRAY_HEADER = COMPRESSED_OOPS ? 16 : 24;
+    private static final int REFERENCE = COMPRESSED_OOPS ? 4 : 8;
+
+    private Footprint() {}
+
+    /**
+     * Size of an object with the given number of reference fields plus
+     * {@code primitiveBytes} of primitive fields.
+     */
+    static long object(int references, int primitiveBytes) {
+        return align(HEADER + (long) references * REFERENCE + primitiveBytes);
+    }
+
+    static long referenceArray(int length) {
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    static long longArray(int length) {
+        return align(ARRAY_HEADER + (long) length * Long.BYTES);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static boolean compressedOops() {
+        try {
+            HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+
+            return Boolean.parseBoolean(bean.getVMOption("UseCompressedOops").getValue());
+        } catch (RuntimeException | LinkageError e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.epam.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * Hash map from primitive int keys to objects.
+ * The same Robin Hood layout as {@link CustomHashMap}, with the keys in an
+ * int[] so they are never boxed; a null value marks an empty slot. Null
+ * values are not permitted.
+ */
+public class IntObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    private int size = 0;
+    private int modCount = 0;
+
+    /**
+     * Receives the entries of {@link #forEach}.
+     */
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    /**
+     * Forward-only position over the entries. Reads the arrays in place, so
+     * advancing allocates nothing.
+     */
+    public final class Cursor {
+        private final int modCount = IntObjectMap.this.modCount;
+        private int slot = -1;
+
+        private Cursor() {}
+
+        /**
+         * Moves to the next entry.
+         *
+         * @return false if there are no more entries
+         */
+        public boolean advance() {
+            if (modCount != IntObjectMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            while (++slot < values.length) {
+                if (values[slot] != null) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        public int key() {
+            return keys[checkSlot()];
+        }
+
+        public V value() {
+            return (V) values[checkSlot()];
+        }
+
+        public V setValue(V value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+
+            int i = checkSlot();
+            V result = (V) values[i];
+            values[i] = value;
+
+            return result;
+        }
+
+        private int checkSlot() {
+            if (slot < 0 || slot >= values.length) {
+                throw new NoSuchElementException();
+            }
+
+            return slot;
+        }
+    }
+
+    public IntObjectMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor: " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor((int) Math.ceil(initialCapacity / loadFactor)));
+    }
+
+    public IntObjectMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntObjectMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if it has none.
+     */
+    public V get(int key) {
+        int i = slotOf(key);
+
+        return i < 0 ? null : (V) values[i];
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        int i = slotOf(key);
+
+        return i < 0 ? defaultValue : (V) values[i];
+    }
+
+    /**
+     * @return the previous value, or null if there was none
+     */
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+
+        int i = slotOf(key);
+
+        if (i >= 0) {
+            V result = (V) values[i];
+            values[i] = value;
+            return result;
+        }
+
+        insert(key, value);
+
+        return null;
+    }
+
+    /**
+     * @return the removed value, or null if there was none
+     */
+    public V remove(int key) {
+        int i = slotOf(key);
+
+        if (i < 0) {
+            return null;
+        }
+
+        V result = (V) values[i];
+        removeSlot(i);
+
+        return result;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * Returns the value of {@code key}, first computing and inserting it if
+     * the key is absent. A null result is not inserted.
+     */
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+        int i = slotOf(key);
+
+        if (i >= 0) {
+            return (V) values[i];
+        }
+
+        int expectedModCount = modCount;
+        V value = mappingFunction.apply(key);
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value != null) {
+            insert(key, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Inserts {@code value} if the key is absent, otherwise replaces the
+     * current value with the result of {@code remappingFunction}, removing
+     * the entry if that is null.
+     */
+    public V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+
+        int i = slotOf(key);
+
+        if (i < 0) {
+            insert(key, value);
+            return value;
+        }
+
+        int expectedModCount = modCount;
+        V newValue = remappingFunction.apply((V) values[i], value);
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (newValue == null) {
+            removeSlot(i);
+        } else {
+            values[i] = newValue;
+        }
+
+        return newValue;
+    }
+
+    /**
+     * Passes every entry to {@code action} without boxing or allocating.
+     */
+    public void forEach(EntryConsumer<? super V> action) {
+        int expectedModCount = modCount;
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        boolean first = true;
+
+        sb.append("{");
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(keys[i]).append("=").append(values[i]);
+                first = false;
+            }
+        }
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    //Auxiliary methods
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+
+        return Math.max(2, Integer.highestOneBit(capacity - 1 | 1) << 1);
+    }
+
+    private int distance(int i) {
+        return (i - hash(keys[i])) & mask;
+    }
+
+    private int slotOf(int key) {
+        int i = hash(key) & mask;
+
+        for (int d = 0; values[i] != null && d <= distance(i); d++, i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private void insert(int key, Object value) {
+        if (size >= threshold) {
+            resize(values.length << 1);
+        }
+
+        int i = hash(key) & mask;
+
+        for (int d = 0; values[i] != null; d++, i = (i + 1) & mask) {
+            int existing = distance(i);
+
+            if (existing < d) {
+                int k = keys[i];
+                Object v = values[i];
+
+                keys[i] = key;
+                values[i] = value;
+                key = k;
+                value = v;
+                d = existing;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        modCount++;
+    }
+
+    private void removeSlot(int i) {
+        int next = (i + 1) & mask;
+
+        while (values[next] != null && distance(next) > 0) {
+            keys[i] = keys[next];
+            values[i] = values[next];
+            i = next;
+            next = (next + 1) & mask;
+        }
+
+        values[i] = null;
+        size--;
+        modCount++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * loadFactor);
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        allocate(capacity);
+        size = 0;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                insert(oldKeys[j], oldValues[j]);
+            }
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.epam.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Hash map from primitive long keys to primitive long values.
+ * The same Robin Hood layout as {@link CustomHashMap} over a long[] of keys
+ * and a long[] of values, so nothing is ever boxed. Key 0 marks an empty slot
+ * and is itself kept outside the table. Lookups of absent keys return 0.
+ */
+public class LongLongMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long FREE = 0;
+
+    private final float loadFactor;
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int threshold;
+    // Entries in the table, not counting key 0.
+    private int used = 0;
+    private boolean hasFreeKey = false;
+    private long freeKeyValue;
+    private int modCount = 0;
+
+    /**
+     * Receives the entries of {@link #forEach}.
+     */
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    /**
+     * Forward-only position over the entries. Reads the arrays in place, so
+     * advancing allocates nothing. Key 0, if present, comes first.
+     */
+    public final class Cursor {
+        private final int modCount = LongLongMap.this.modCount;
+        private int slot = -2;
+
+        private Cursor() {}
+
+        /**
+         * Moves to the next entry.
+         *
+         * @return false if there are no more entries
+         */
+        public boolean advance() {
+            if (modCount != LongLongMap.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (slot == -2) {
+                slot = -1;
+                if (hasFreeKey) {
+                    return true;
+                }
+            }
+            while (++slot < keys.length) {
+                if (keys[slot] != FREE) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        public long key() {
+            int i = checkSlot();
+
+            return i < 0 ? FREE : keys[i];
+        }
+
+        public long value() {
+            int i = checkSlot();
+
+            return i < 0 ? freeKeyValue : values[i];
+        }
+
+        public long setValue(long value) {
+            int i = checkSlot();
+            long result;
+
+            if (i < 0) {
+                result = freeKeyValue;
+                freeKeyValue = value;
+            } else {
+                result = values[i];
+                values[i] = value;
+            }
+
+            return result;
+        }
+
+        private int checkSlot() {
+            if (slot < -1 || slot >= keys.length) {
+                throw new NoSuchElementException();
+            }
+
+            return slot;
+        }
+    }
+
+    public LongLongMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor: " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor((int) Math.ceil(initialCapacity / loadFactor)));
+    }
+
+    public LongLongMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongLongMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public int size() {
+        return used + (hasFreeKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return key == FREE ? hasFreeKey : slotOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or 0 if it has none.
+     */
+    public long get(long key) {
+        return getOrDefault(key, 0);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == FREE) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+
+        int i = slotOf(key);
+
+        return i < 0 ? defaultValue : values[i];
+    }
+
+    /**
+     * @return the previous value, or 0 if there was none
+     */
+    public long put(long key, long value) {
+        long result = 0;
+
+        if (key == FREE) {
+            if (hasFreeKey) {
+                result = freeKeyValue;
+            } else {
+                hasFreeKey = true;
+                modCount++;
+            }
+            freeKeyValue = value;
+            return result;
+        }
+
+        int i = slotOf(key);
+
+        if (i >= 0) {
+            result = values[i];
+            values[i] = value;
+            return result;
+        }
+
+        insert(key, value);
+
+        return result;
+    }
+
+    /**
+     * @return the removed value, or 0 if there was none
+     */
+    public long remove(long key) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                return 0;
+            }
+            hasFreeKey = false;
+            modCount++;
+            return freeKeyValue;
+        }
+
+        int i = slotOf(key);
+
+        if (i < 0) {
+            return 0;
+        }
+
+        long result = values[i];
+        removeSlot(i);
+
+        return result;
+    }
+
+    public void clear() {
+        if (size() > 0) {
+            Arrays.fill(keys, FREE);
+            used = 0;
+            hasFreeKey = false;
+            modCount++;
+        }
+    }
+
+    /**
+     * Returns the value of {@code key}, first computing and inserting it if
+     * the key is absent.
+     */
+    public long computeIfAbsent(long key, LongUnaryOperator mappingFunction) {
+        if (key == FREE) {
+            if (hasFreeKey) {
+                return freeKeyValue;
+            }
+        } else {
+            int i = slotOf(key);
+
+            if (i >= 0) {
+                return values[i];
+            }
+        }
+
+        int expectedModCount = modCount;
+        long value = mappingFunction.applyAsLong(key);
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (key == FREE) {
+            put(key, value);
+        } else {
+            insert(key, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Inserts {@code value} if the key is absent, otherwise replaces the
+     * current value with the result of {@code remappingFunction}. Counting
+     * is {@code merge(key, 1, Long::sum)}.
+     */
+    public long merge(long key, long value, LongBinaryOperator remappingFunction) {
+        int expectedModCount = modCount;
+        long newValue;
+
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                put(key, value);
+                return value;
+            }
+
+            newValue = remappingFunction.applyAsLong(freeKeyValue, value);
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            freeKeyValue = newValue;
+            return newValue;
+        }
+
+        int i = slotOf(key);
+
+        if (i < 0) {
+            insert(key, value);
+            return value;
+        }
+
+        // The function may resize the table, so check before writing to it.
+        newValue = remappingFunction.applyAsLong(values[i], value);
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+        values[i] = newValue;
+
+        return newValue;
+    }
+
+    /**
+     * Passes every entry to {@code action} without boxing or allocating.
+     */
+    public void forEach(EntryConsumer action) {
+        int expectedModCount = modCount;
+
+        if (hasFreeKey) {
+            action.accept(FREE, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append("=").append(value);
+        });
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    //Auxiliary methods
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+
+        return Math.max(2, Integer.highestOneBit(capacity - 1 | 1) << 1);
+    }
+
+    private int distance(int i) {
+        return (i - hash(keys[i])) & mask;
+    }
+
+    private int slotOf(long key) {
+        int i = hash(key) & mask;
+
+        for (int d = 0; keys[i] != FREE && d <= distance(i); d++, i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private void insert(long key, long value) {
+        if (used >= threshold) {
+            resize(keys.length << 1);
+        }
+
+        int i = hash(key) & mask;
+
+        for (int d = 0; keys[i] != FREE; d++, i = (i + 1) & mask) {
+            int existing = distance(i);
+
+            if (existing < d) {
+                long k = keys[i];
+                long v = values[i];
+
+                keys[i] = key;
+                values[i] = value;
+                key = k;
+                value = v;
+                d = existing;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        used++;
+        modCount++;
+    }
+
+    private void removeSlot(int i) {
+        int next = (i + 1) & mask;
+
+        while (keys[next] != FREE && distance(next) > 0) {
+            keys[i] = keys[next];
+            values[i] = values[next];
+            i = next;
+            next = (next + 1) & mask;
+        }
+
+        keys[i] = FREE;
+        used--;
+        modCount++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * loadFactor);
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        allocate(capacity);
+        used = 0;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != FREE) {
+                insert(oldKeys[j], oldValues[j]);
+            }
+        }
+    }
+}
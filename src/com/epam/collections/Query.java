@@ -0,0 +1,200 @@
+package com.epam.collections;
+
+import java.util.Collection;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy query over one of the custom collections.
+ * Intermediate operations only add a stage to the pipeline. A terminal
+ * operation runs all stages fused together in a single pass over the
+ * collection's own storage, and stops that pass as soon as no further element
+ * is wanted. No intermediate collection is created. A query can be run any
+ * number of times and always sees the collection's current contents.
+ */
+public final class Query<T> {
+    private final Source<T> source;
+
+    /**
+     * Pushes elements into a sink until the sink asks to stop.
+     */
+    interface Source<T> {
+        void run(Sink<? super T> sink);
+    }
+
+    /**
+     * Receives one element.
+     *
+     * @return false if no more elements are wanted
+     */
+    interface Sink<T> {
+        boolean accept(T o);
+    }
+
+    Query(Source<T> source) {
+        this.source = source;
+    }
+
+    public Query<T> filter(Predicate<? super T> predicate) {
+        return new Query<>(sink -> source.run(o -> !predicate.test(o) || sink.accept(o)));
+    }
+
+    public <R> Query<R> map(Function<? super T, ? extends R> mapper) {
+        return new Query<>(sink -> source.run(o -> sink.accept(mapper.apply(o))));
+    }
+
+    /**
+     * Passes on at most {@code maxSize} elements and then ends the pass.
+     */
+    public Query<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Limit: " + maxSize);
+        }
+
+        return new Query<>(sink -> {
+            if (maxSize == 0) {
+                return;
+            }
+
+            long[] left = {maxSize};
+            source.run(o -> sink.accept(o) && --left[0] > 0);
+        });
+    }
+
+    public Query<T> skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Skip: " + n);
+        }
+
+        return new Query<>(sink -> {
+            long[] left = {n};
+            source.run(o -> {
+                if (left[0] > 0) {
+                    left[0]--;
+                    return true;
+                }
+
+                return sink.accept(o);
+            });
+        });
+    }
+
+    /**
+     * Passes on only the first occurrence of each element, remembering the
+     * ones already seen in a {@link CustomHashSet}.
+     */
+    public Query<T> distinct() {
+        return new Query<>(sink -> {
+            CustomHashSet<T> seen = new CustomHashSet<>();
+            boolean[] seenNull = {false};
+
+            source.run(o -> {
+                if (o == null) {
+                    if (seenNull[0]) {
+                        return true;
+                    }
+                    seenNull[0] = true;
+                } else if (!seen.add(o)) {
+                    return true;
+                }
+
+                return sink.accept(o);
+            });
+        });
+    }
+
+    //Terminal operations
+
+    public void forEach(Consumer<? super T> action) {
+        source.run(o -> {
+            action.accept(o);
+            return true;
+        });
+    }
+
+    public CustomArrayList<T> toList() {
+        return into(new CustomArrayList<>());
+    }
+
+    /**
+     * Adds the results to {@code c}.
+     *
+     * @return {@code c}
+     */
+    public <C extends Collection<? super T>> C into(C c) {
+        source.run(o -> {
+            c.add(o);
+            return true;
+        });
+
+        return c;
+    }
+
+    public long count() {
+        long[] count = {0};
+
+        source.run(o -> {
+            count[0]++;
+            return true;
+        });
+
+        return count[0];
+    }
+
+    /**
+     * Returns the first result, or null if there is none.
+     */
+    public T first() {
+        Object[] first = {null};
+
+        source.run(o -> {
+            first[0] = o;
+            return false;
+        });
+
+        return (T) first[0];
+    }
+
+    public boolean anyMatch(Predicate<? super T> predicate) {
+        boolean[] found = {false};
+
+        source.run(o -> !(found[0] = predicate.test(o)));
+
+        return found[0];
+    }
+
+    public boolean allMatch(Predicate<? super T> predicate) {
+        return !anyMatch(predicate.negate());
+    }
+
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Object[] result = {identity};
+
+        source.run(o -> {
+            result[0] = accumulator.apply((T) result[0], o);
+            return true;
+        });
+
+        return (T) result[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        boolean[] first = {true};
+
+        sb.append("[");
+        forEach(o -> {
+            if (!first[0]) {
+                sb.append(", ");
+            }
+            sb.append(o);
+            first[0] = false;
+        });
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.epam.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lock handling shared by {@link StampedArrayList} and {@link StampedTreeSet}.
+ * A read first runs under an optimistic stamp, without blocking writers or
+ * other readers, and is repeated under the read lock only if a write
+ * intervened. The wrapped collections are not thread-safe, so a read that
+ * overlaps a write may see a torn state and throw. Such an exception is
+ * discarded if the stamp no longer validates, and the read is retried.
+ */
+final class StampedAccess {
+    private StampedAccess() {}
+
+    static <R> R read(StampedLock lock, Supplier<R> read) {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0) {
+            try {
+                R result = read.get();
+
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return read.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    static boolean readBoolean(StampedLock lock, BooleanSupplier read) {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0) {
+            try {
+                boolean result = read.getAsBoolean();
+
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return read.getAsBoolean();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    static int readInt(StampedLock lock, IntSupplier read) {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0) {
+            try {
+                int result = read.getAsInt();
+
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return read.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    static <R> R write(StampedLock lock, Supplier<R> write) {
+        long stamp = lock.writeLock();
+
+        try {
+            return write.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies {@code c} if it is itself a stamped wrapper, so that a bulk
+     * operation does not take that wrapper's lock while holding its own.
+     * That deadlocks when {@code c} is the caller, and can deadlock when two
+     * wrappers are used against each other.
+     */
+    static <E> Collection<E> detach(Collection<E> c) {
+        if (c instanceof StampedArrayList || c instanceof StampedTreeSet) {
+            return (List<E>) Arrays.asList(c.toArray());
+        }
+
+        return c;
+    }
+
+    /**
+     * Like {@link #detach}, but copies into a hash set, for collections that
+     * are only probed with contains.
+     */
+    static Collection<?> detachForLookup(Collection<?> c) {
+        if (c instanceof StampedArrayList || c instanceof StampedTreeSet) {
+            return new CustomHashSet<>(Arrays.asList(c.toArray()));
+        }
+
+        return c;
+    }
+}
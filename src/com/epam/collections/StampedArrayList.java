@@ -0,0 +1,177 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe wrapper around a {@link CustomArrayList}, guarded by a
+ * {@link StampedLock} instead of a monitor.
+ * Reads such as get, contains and size run under an optimistic stamp, so
+ * concurrent readers neither block each other nor write shared state. Writes
+ * take the exclusive lock. Bulk operations take the lock once for the whole
+ * batch. Iterators work on a snapshot taken when they are created and cannot
+ * modify the list. The lock is not reentrant and never pins a virtual thread.
+ * After wrapping, the list must only be accessed through the wrapper.
+ */
+public class StampedArrayList<T> implements List<T> {
+    private final CustomArrayList<T> list;
+    private final StampedLock lock = new StampedLock();
+
+    public StampedArrayList() {
+        this(new CustomArrayList<>());
+    }
+
+    public StampedArrayList(CustomArrayList<T> list) {
+        if (list == null) {
+            throw new NullPointerException();
+        }
+
+        this.list = list;
+    }
+
+    @Override
+    public int size() {
+        return StampedAccess.readInt(lock, list::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return StampedAccess.readBoolean(lock, list::isEmpty);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return StampedAccess.readBoolean(lock, () -> list.contains(o));
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return StampedAccess.readInt(lock, () -> list.indexOf(o));
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return StampedAccess.readInt(lock, () -> list.lastIndexOf(o));
+    }
+
+    @Override
+    public Object[] toArray() {
+        return StampedAccess.read(lock, list::toArray);
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        return StampedAccess.read(lock, () -> list.toArray(a));
+    }
+
+    @Override
+    public T get(int index) {
+        return StampedAccess.read(lock, () -> list.get(index));
+    }
+
+    @Override
+    public T set(int index, T o) {
+        return StampedAccess.write(lock, () -> list.set(index, o));
+    }
+
+    @Override
+    public boolean add(T o) {
+        return StampedAccess.write(lock, () -> list.add(o));
+    }
+
+    @Override
+    public void add(int index, T o) {
+        StampedAccess.write(lock, () -> {
+            list.add(index, o);
+            return null;
+        });
+    }
+
+    @Override
+    public T remove(int index) {
+        return StampedAccess.write(lock, () -> list.remove(index));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return StampedAccess.write(lock, () -> list.remove(o));
+    }
+
+    @Override
+    public void clear() {
+        StampedAccess.write(lock, () -> {
+            list.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        Collection<? extends T> source = StampedAccess.detach(c);
+
+        return StampedAccess.write(lock, () -> list.addAll(source));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        Collection<? extends T> source = StampedAccess.detach(c);
+
+        return StampedAccess.write(lock, () -> list.addAll(index, source));
+    }
+
+    /**
+     * Returns a copy of the range, like {@link CustomArrayList#subList}.
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return StampedAccess.read(lock, () -> list.subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        Collection<?> lookup = StampedAccess.detachForLookup(c);
+
+        return StampedAccess.write(lock, () -> list.removeAll(lookup));
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        Collection<?> lookup = StampedAccess.detachForLookup(c);
+
+        return StampedAccess.write(lock, () -> list.retainAll(lookup));
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        Collection<?> elements = StampedAccess.detach((Collection<?>) c);
+
+        return StampedAccess.readBoolean(lock, () -> list.containsAll(elements));
+    }
+
+    @Override
+    public String toString() {
+        return StampedAccess.read(lock, list::toString);
+    }
+
+    //Iterator
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a read-only iterator over a snapshot of the list.
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        List<T> snapshot = (List<T>) Arrays.asList(toArray());
+
+        return Collections.unmodifiableList(snapshot).listIterator(index);
+    }
+}
@@ -0,0 +1,151 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe wrapper around a {@link CustomTreeSet}, guarded by a
+ * {@link StampedLock} instead of a monitor.
+ * Reads such as contains and size run under an optimistic stamp, so
+ * concurrent readers neither block each other nor write shared state. Writes
+ * take the exclusive lock. Bulk operations take the lock once for the whole
+ * batch. Iterators work on a snapshot taken when they are created; removing
+ * through one removes the element from the set. The lock is not reentrant
+ * and never pins a virtual thread. After wrapping, the set must only be
+ * accessed through the wrapper.
+ */
+public class StampedTreeSet<T extends Comparable<T>> implements Set<T> {
+    private final CustomTreeSet<T> set;
+    private final StampedLock lock = new StampedLock();
+
+    public StampedTreeSet() {
+        this(new CustomTreeSet<>());
+    }
+
+    public StampedTreeSet(CustomTreeSet<T> set) {
+        if (set == null) {
+            throw new NullPointerException();
+        }
+        if (set.isMembershipFilterEnabled()) {
+            throw new IllegalArgumentException("Lookups would rebuild the membership filter");
+        }
+
+        this.set = set;
+    }
+
+    @Override
+    public int size() {
+        return StampedAccess.readInt(lock, set::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return StampedAccess.readBoolean(lock, set::isEmpty);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return StampedAccess.readBoolean(lock, () -> set.contains(o));
+    }
+
+    @Override
+    public Object[] toArray() {
+        return StampedAccess.read(lock, set::toArray);
+    }
+
+    @Override
+    public <S> S[] toArray(S[] a) {
+        return StampedAccess.read(lock, () -> set.toArray(a));
+    }
+
+    @Override
+    public boolean add(T o) {
+        return StampedAccess.write(lock, () -> set.add(o));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return StampedAccess.write(lock, () -> set.remove(o));
+    }
+
+    @Override
+    public void clear() {
+        StampedAccess.write(lock, () -> {
+            set.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        Collection<? extends T> source = StampedAccess.detach(c);
+
+        return StampedAccess.write(lock, () -> set.addAll(source));
+    }
+
+    @Override
+    public boolean removeAll(Collection c) {
+        Collection<?> lookup = StampedAccess.detachForLookup(c);
+
+        return StampedAccess.write(lock, () -> set.removeAll(lookup));
+    }
+
+    @Override
+    public boolean retainAll(Collection c) {
+        Collection<?> lookup = StampedAccess.detachForLookup(c);
+
+        return StampedAccess.write(lock, () -> set.retainAll(lookup));
+    }
+
+    @Override
+    public boolean containsAll(Collection c) {
+        Collection<?> elements = StampedAccess.detach((Collection<?>) c);
+
+        return StampedAccess.readBoolean(lock, () -> set.containsAll(elements));
+    }
+
+    @Override
+    public String toString() {
+        return StampedAccess.read(lock, set::toString);
+    }
+
+    //Iterator
+
+    /**
+     * Returns an iterator over a snapshot of the set, in ascending order.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] snapshot = toArray();
+
+        return new Iterator<T>() {
+            private int cursor = 0;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < snapshot.length;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = cursor;
+                return (T) snapshot[cursor++];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+
+                StampedTreeSet.this.remove(snapshot[lastReturned]);
+                lastReturned = -1;
+            }
+        };
+    }
+}
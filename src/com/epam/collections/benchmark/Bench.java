@@ -0,0 +1,108 @@
+package com.epam.collections.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Minimal timing helper shared by the plain-main benchmarks.
+ * It runs in a single JVM without forks, so the figures are indicative only;
+ * CollectionsBenchmark in the jmh module uses JMH instead. Measured code should
+ * pass its results to {@link #consume} so the JIT cannot drop the work.
+ */
+final class Bench {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // Values passed to consume are folded in here and published after every
+    // round, so they are observable and cannot be eliminated as dead code.
+    private static long consumed;
+    private static volatile long published;
+
+    private Bench() {}
+
+    static void consume(long value) {
+        consumed = consumed * 31 + value;
+    }
+
+    static void consume(boolean value) {
+        consume(value ? 1 : 0);
+    }
+
+    /**
+     * Runs {@code body} a few times to warm up, then reports the best of the
+     * measured rounds as nanoseconds per operation.
+     */
+    static double measure(String label, int ops, Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+            published = consumed;
+        }
+
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+            published = consumed;
+        }
+
+        double nsPerOp = (double) best / ops;
+        System.out.printf("%-48s %12.1f ns/op%n", label, nsPerOp);
+
+        return nsPerOp;
+    }
+
+    /**
+     * Measures {@code body} like {@link #measure}, then runs it once more and
+     * reports the bytes it allocated per operation and the collections it
+     * caused.
+     */
+    static double profile(String label, int ops, Runnable body) {
+        double nsPerOp = measure(label, ops, body);
+
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long allocated = allocatedBytes();
+
+        body.run();
+
+        System.out.printf("%-48s %12.1f bytes/op %6d GCs %6d ms%n", "  allocation",
+                          (double) (allocatedBytes() - allocated) / ops,
+                          gcCount() - gcCount, gcMillis() - gcMillis);
+
+        return nsPerOp;
+    }
+
+    /**
+     * Bytes allocated so far by the calling thread.
+     */
+    static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long gcCount() {
+        long count = 0;
+
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+
+        return millis;
+    }
+
+    static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
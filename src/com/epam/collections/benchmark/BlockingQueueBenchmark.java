@@ -0,0 +1,95 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+/**
+ * Pipeline hand-off throughput through CustomLinkedBlockingQueue, moving
+ * items one by one with put/take and in batches with putAll/drainTo.
+ * Usage: BlockingQueueBenchmark [items] [capacity] [batch size]
+ */
+public class BlockingQueueBenchmark {
+    public static void main(String[] args) throws InterruptedException {
+        int items = Bench.intArg(args, 0, 5_000_000);
+        int capacity = Bench.intArg(args, 1, 1_024);
+        int batch = Bench.intArg(args, 2, 64);
+
+        for (int round = 0; round < 3; round++) {
+            single(items, capacity);
+            batched(items, capacity, batch);
+        }
+    }
+
+    private static void single(int items, int capacity)
+            throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(capacity);
+        Integer item = 42;
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < items; i++) {
+                    queue.put(item);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            try {
+                for (int i = 0; i < items; i++) {
+                    queue.take();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        report("put/take", items, producer, consumer);
+    }
+
+    private static void batched(int items, int capacity, int batch)
+            throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(capacity);
+        CustomArrayList<Integer> chunk = new CustomArrayList<>(batch);
+
+        for (int i = 0; i < batch; i++) {
+            chunk.add(i);
+        }
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int sent = 0; sent < items; sent += batch) {
+                    queue.putAll(items - sent >= batch ? chunk : chunk.subList(0, items - sent));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            CustomArrayList<Integer> sink = new CustomArrayList<>(batch);
+            int received = 0;
+
+            try {
+                while (received < items) {
+                    sink.add(queue.take());
+                    received += 1 + queue.drainTo(sink, batch - 1);
+                    sink.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        report("putAll/drainTo x" + batch, items, producer, consumer);
+    }
+
+    private static void report(String label, int items, Thread producer, Thread consumer)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+
+        System.out.printf("%-48s %12.1f ns/item%n", label, (double) (System.nanoTime() - start) / items);
+    }
+}
@@ -0,0 +1,92 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.util.*;
+
+/**
+ * Cache benchmark: replays a Zipf-distributed key trace, with a scan of
+ * one-off keys mixed in, against CustomCache with each eviction policy.
+ * Reports time per access and hit rate, and compares with the old approach of
+ * keeping keys in a CustomLinkedList and moving each hit to the front with
+ * remove(Object) and addFirst, at a smaller size.
+ * Usage: CacheBenchmark [accesses] [cache size] [list cache size]
+ */
+public class CacheBenchmark {
+    private static final int KEY_SPACE_FACTOR = 20;
+    private static final double ZIPF_EXPONENT = 0.9;
+
+    public static void main(String[] args) {
+        int accesses = Bench.intArg(args, 0, 2_000_000);
+        int cacheSize = Bench.intArg(args, 1, 10_000);
+        int listCacheSize = Bench.intArg(args, 2, 1_000);
+        Integer[] trace = trace(accesses, cacheSize * KEY_SPACE_FACTOR);
+        Integer[] smallTrace = trace(accesses / 10, listCacheSize * KEY_SPACE_FACTOR);
+
+        for (CustomCache.EvictionPolicy policy : CustomCache.EvictionPolicy.values()) {
+            double[] hitRate = new double[1];
+
+            Bench.measure("CustomCache " + policy, accesses, () -> {
+                hitRate[0] = run(new CustomCache<>(cacheSize, policy), trace);
+            });
+            System.out.printf("%-48s %12.3f%n", "  hit rate", hitRate[0]);
+        }
+
+        Bench.measure("CustomCache LRU (list size)", smallTrace.length,
+                      () -> run(new CustomCache<>(listCacheSize), smallTrace));
+        Bench.measure("CustomLinkedList move-to-front (list size)", smallTrace.length,
+                      () -> runList(listCacheSize, smallTrace));
+    }
+
+    /**
+     * Zipf-distributed keys from {@code keySpace}, where every tenth block
+     * of accesses is replaced by a scan over keys never seen again.
+     */
+    private static Integer[] trace(int accesses, int keySpace) {
+        Random random = new Random(42);
+        double[] cumulative = new double[keySpace];
+        double sum = 0;
+
+        for (int i = 0; i < keySpace; i++) {
+            sum += 1 / Math.pow(i + 1, ZIPF_EXPONENT);
+            cumulative[i] = sum;
+        }
+
+        Integer[] trace = new Integer[accesses];
+        int scanKey = keySpace;
+
+        for (int i = 0; i < accesses; i++) {
+            if ((i / 1000) % 10 == 9) {
+                trace[i] = scanKey++;
+            } else {
+                int k = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                trace[i] = k >= 0 ? k : -k - 1;
+            }
+        }
+
+        return trace;
+    }
+
+    private static double run(CustomCache<Integer, Integer> cache, Integer[] trace) {
+        for (Integer key : trace) {
+            cache.computeIfAbsent(key, k -> k);
+        }
+
+        return cache.hitRate();
+    }
+
+    private static void runList(int size, Integer[] trace) {
+        CustomLinkedList<Integer> keys = new CustomLinkedList<>();
+
+        for (Integer key : trace) {
+            if (keys.remove(key)) {
+                keys.addFirst(key);
+            } else {
+                keys.addFirst(key);
+                if (keys.size() > size) {
+                    keys.removeLast();
+                }
+            }
+        }
+    }
+}
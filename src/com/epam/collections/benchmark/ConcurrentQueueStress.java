@@ -0,0 +1,127 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multi-producer/multi-consumer throughput comparison of
+ * CustomConcurrentLinkedQueue against a synchronized CustomLinkedList.
+ * CustomConcurrentLinkedQueueTest checks that every element is consumed
+ * exactly once and in producer order.
+ * Usage: ConcurrentQueueStress [producers] [consumers] [items per producer]
+ */
+public class ConcurrentQueueStress {
+    public static void main(String[] args) throws InterruptedException {
+        int producers = Bench.intArg(args, 0, 4);
+        int consumers = Bench.intArg(args, 1, 4);
+        int items = Bench.intArg(args, 2, 1_000_000);
+
+        for (int round = 0; round < 3; round++) {
+            run("CustomConcurrentLinkedQueue", new CustomConcurrentLinkedQueue<>(),
+                producers, consumers, items);
+
+            CustomLinkedList<Long> list = new CustomLinkedList<>();
+            run("synchronized CustomLinkedList", new SynchronizedQueue(list),
+                producers, consumers, items);
+        }
+    }
+
+    private static void run(String name, Queue<Long> queue, int producers, int consumers, int items)
+            throws InterruptedException {
+        long total = (long) producers * items;
+        AtomicLong consumed = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p << 32;
+
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < items; i++) {
+                    queue.offer(base | i);
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+
+                while (consumed.get() < total) {
+                    Long value = queue.poll();
+
+                    if (value == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    consumed.incrementAndGet();
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        if (!queue.isEmpty()) {
+            throw new AssertionError(name + ": queue not empty after all items were consumed");
+        }
+
+        System.out.printf("%-48s %12.1f Mops/s%n", name + " " + producers + "P/" + consumers + "C",
+                          total * 1e3 / elapsed);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The locking wrapper CustomConcurrentLinkedQueue replaces.
+     */
+    private static final class SynchronizedQueue extends AbstractQueue<Long> {
+        private final CustomLinkedList<Long> list;
+
+        SynchronizedQueue(CustomLinkedList<Long> list) {
+            this.list = list;
+        }
+
+        @Override
+        public synchronized boolean offer(Long value) {
+            return list.offer(value);
+        }
+
+        @Override
+        public synchronized Long poll() {
+            return list.poll();
+        }
+
+        @Override
+        public synchronized Long peek() {
+            return list.peek();
+        }
+
+        @Override
+        public synchronized int size() {
+            return list.size();
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+/**
+ * Allocation rate and throughput of CustomLinkedList used as a work queue,
+ * with and without entry pooling.
+ * Usage: EntryPoolBenchmark [operations] [queue depth]
+ */
+public class EntryPoolBenchmark {
+    public static void main(String[] args) {
+        int ops = Bench.intArg(args, 0, 10_000_000);
+        int depth = Bench.intArg(args, 1, 1_000);
+
+        run("CustomLinkedList", new CustomLinkedList<>(), ops, depth);
+
+        CustomLinkedList<Integer> pooled = new CustomLinkedList<>();
+        pooled.setEntryPoolCapacity(depth);
+        run("CustomLinkedList pooled", pooled, ops, depth);
+    }
+
+    private static void run(String name, CustomLinkedList<Integer> queue, int ops, int depth) {
+        Integer item = 42;
+
+        for (int i = 0; i < depth; i++) {
+            queue.offer(item);
+        }
+
+        Runnable churn = () -> {
+            for (int i = 0; i < ops; i++) {
+                queue.offer(item);
+                queue.poll();
+            }
+        };
+
+        Bench.measure(name + " offer+poll", ops, churn);
+
+        long before = Bench.allocatedBytes();
+        churn.run();
+        long allocated = Bench.allocatedBytes() - before;
+
+        System.out.printf("%-48s %12.2f bytes/op%n", name + " allocation", (double) allocated / ops);
+    }
+}
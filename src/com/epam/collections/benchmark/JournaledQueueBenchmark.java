@@ -0,0 +1,82 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+
+/**
+ * Job queue throughput with and without the journal: offers a burst of small
+ * string jobs and polls them back, on an in-memory CustomLinkedList and on a
+ * CustomJournaledQueue in a temporary directory.
+ * Usage: JournaledQueueBenchmark [jobs] [payload bytes] [sync interval ms]
+ */
+public class JournaledQueueBenchmark {
+    private static final CustomJournaledQueue.Codec<String> UTF8 = new CustomJournaledQueue.Codec<String>() {
+        @Override
+        public byte[] encode(String o) {
+            return o.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    public static void main(String[] args) throws IOException {
+        int jobs = Bench.intArg(args, 0, 1_000_000);
+        int payload = Bench.intArg(args, 1, 64);
+        int syncInterval = Bench.intArg(args, 2, 10);
+        String[] values = new String[jobs];
+
+        for (int i = 0; i < jobs; i++) {
+            StringBuilder sb = new StringBuilder(payload).append(i);
+            while (sb.length() < payload) {
+                sb.append('.');
+            }
+            values[i] = sb.toString();
+        }
+
+        Bench.measure("CustomLinkedList offer+poll", 2 * jobs, () -> {
+            CustomLinkedList<String> queue = new CustomLinkedList<>();
+            run(queue, values);
+        });
+
+        Path directory = Files.createTempDirectory("journal-bench");
+        try (CustomJournaledQueue<String> queue =
+                     new CustomJournaledQueue<>(directory, UTF8, 64L << 20, syncInterval)) {
+            Bench.measure("CustomJournaledQueue offer+poll", 2 * jobs, () -> {
+                run(queue, values);
+                sync(queue);
+            });
+        }
+
+        long start = System.nanoTime();
+        try (CustomJournaledQueue<String> queue = new CustomJournaledQueue<>(directory, UTF8)) {
+            System.out.printf("%-48s %12.1f ms (%d left)%n", "CustomJournaledQueue recovery",
+                              (System.nanoTime() - start) / 1e6, queue.size());
+        }
+    }
+
+    private static void run(Queue<String> queue, String[] values) {
+        for (String value : values) {
+            queue.offer(value);
+        }
+        while (queue.poll() != null) {
+            // drain
+        }
+    }
+
+    private static void sync(CustomJournaledQueue<String> queue) {
+        try {
+            queue.sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.util.*;
+
+/**
+ * Random-index insert, remove and get benchmark of CustomTieredList and
+ * CustomIndexedSkipList against CustomArrayList and CustomLinkedList.
+ * Usage: ListBenchmark [size] [operations]
+ */
+public class ListBenchmark {
+    private interface Positional {
+        void add(int index, Integer o);
+
+        Integer remove(int index);
+
+        Integer get(int index);
+    }
+
+    public static void main(String[] args) {
+        int size = Bench.intArg(args, 0, 1_000_000);
+        int ops = Bench.intArg(args, 1, 1_000);
+
+        run("CustomArrayList", wrap(fill(new CustomArrayList<>(), size)), size, ops);
+        run("CustomTieredList", wrap(fill(new CustomTieredList<>(), size)), size, ops);
+        run("CustomIndexedSkipList", wrap(fill(new CustomIndexedSkipList<>(), size)), size, ops);
+
+        CustomLinkedList<Integer> linked = new CustomLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            linked.add(i);
+        }
+        run("CustomLinkedList", new Positional() {
+            @Override
+            public void add(int index, Integer o) {
+                linked.add(index, o);
+            }
+
+            @Override
+            public Integer remove(int index) {
+                // CustomLinkedList has no positional remove, walk there with
+                // its iterator instead.
+                ListIterator<Integer> iterator = linked.iterator();
+                Integer o = null;
+
+                for (int i = 0; i <= index; i++) {
+                    o = iterator.next();
+                }
+                iterator.remove();
+
+                return o;
+            }
+
+            @Override
+            public Integer get(int index) {
+                return linked.get(index);
+            }
+        }, size, ops);
+    }
+
+    private static List<Integer> fill(List<Integer> list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    private static Positional wrap(List<Integer> list) {
+        return new Positional() {
+            @Override
+            public void add(int index, Integer o) {
+                list.add(index, o);
+            }
+
+            @Override
+            public Integer remove(int index) {
+                return list.remove(index);
+            }
+
+            @Override
+            public Integer get(int index) {
+                return list.get(index);
+            }
+        };
+    }
+
+    private static void run(String name, Positional list, int size, int ops) {
+        Random random = new Random(42);
+        int[] indexes = new int[ops];
+
+        for (int i = 0; i < ops; i++) {
+            indexes[i] = size / 4 + random.nextInt(size / 2);
+        }
+
+        Bench.measure(name + " middle add+remove", ops, () -> {
+            for (int index : indexes) {
+                list.add(index, index);
+                Bench.consume(list.remove(index));
+            }
+        });
+
+        Bench.measure(name + " random get", ops, () -> {
+            for (int index : indexes) {
+                Bench.consume(list.get(index));
+            }
+        });
+    }
+}
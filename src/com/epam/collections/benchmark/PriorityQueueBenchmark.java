@@ -0,0 +1,112 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.util.*;
+
+/**
+ * Priority work benchmark: a mixed stream of offers and polls of the smallest
+ * element. Compares CustomPriorityQueue of several arities and
+ * CustomPairingHeap with java.util.PriorityQueue, and with picking the minimum
+ * by scanning a CustomLinkedList at a smaller size.
+ * Usage: PriorityQueueBenchmark [size] [scan size]
+ */
+public class PriorityQueueBenchmark {
+    public static void main(String[] args) {
+        int size = Bench.intArg(args, 0, 1_000_000);
+        int scanSize = Bench.intArg(args, 1, 10_000);
+        Integer[] values = randomValues(size);
+        Integer[] scanValues = randomValues(scanSize);
+
+        Bench.measure("CustomPriorityQueue d=2 offer+poll", 2 * size,
+                      () -> run(new CustomPriorityQueue<>(2, null), values));
+        Bench.measure("CustomPriorityQueue d=4 offer+poll", 2 * size,
+                      () -> run(new CustomPriorityQueue<>(4, null), values));
+        Bench.measure("CustomPriorityQueue d=8 offer+poll", 2 * size,
+                      () -> run(new CustomPriorityQueue<>(8, null), values));
+        Bench.measure("CustomPairingHeap offer+poll", 2 * size,
+                      () -> run(new CustomPairingHeap<>(), values));
+        Bench.measure("PriorityQueue offer+poll", 2 * size,
+                      () -> run(new PriorityQueue<>(), values));
+
+        Bench.measure("CustomPriorityQueue d=4 offer+poll (scan size)", 2 * scanSize,
+                      () -> run(new CustomPriorityQueue<>(), scanValues));
+        Bench.measure("CustomLinkedList scan offer+poll (scan size)", 2 * scanSize,
+                      () -> runScan(scanValues));
+
+        // Dijkstra-style relaxation: many decrease-key operations per poll.
+        Bench.measure("CustomPairingHeap decreaseKey", size, () -> {
+            CustomPairingHeap<Integer> heap = new CustomPairingHeap<>();
+            List<CustomPairingHeap.Handle<Integer>> handles = new ArrayList<>(size);
+
+            for (Integer value : values) {
+                handles.add(heap.insert(value));
+            }
+            for (CustomPairingHeap.Handle<Integer> handle : handles) {
+                heap.decreaseKey(handle, handle.getValue() / 2);
+            }
+            while (heap.poll() != null) {
+                // drain
+            }
+        });
+    }
+
+    private static Integer[] randomValues(int size) {
+        Random random = new Random(42);
+        Integer[] values = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        return values;
+    }
+
+    /**
+     * Offers the values in pairs and polls once after every pair until the
+     * queue is drained.
+     */
+    private static void run(Queue<Integer> queue, Integer[] values) {
+        for (int i = 0; i < values.length; i++) {
+            queue.offer(values[i]);
+            if ((i & 1) == 1) {
+                queue.poll();
+            }
+        }
+        while (queue.poll() != null) {
+            // drain
+        }
+    }
+
+    private static void runScan(Integer[] values) {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+
+        for (int i = 0; i < values.length; i++) {
+            list.offer(values[i]);
+            if ((i & 1) == 1) {
+                pollMin(list);
+            }
+        }
+        while (!list.isEmpty()) {
+            pollMin(list);
+        }
+    }
+
+    private static void pollMin(CustomLinkedList<Integer> list) {
+        Iterator<Integer> iterator = list.iterator();
+        Integer min = iterator.next();
+
+        while (iterator.hasNext()) {
+            Integer value = iterator.next();
+            if (value < min) {
+                min = value;
+            }
+        }
+
+        iterator = list.iterator();
+        while (iterator.next() != min) {
+            // seek
+        }
+        iterator.remove();
+    }
+}
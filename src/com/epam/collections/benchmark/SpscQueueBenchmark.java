@@ -0,0 +1,102 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * One producer and one consumer thread handing items over through
+ * CustomSpscArrayQueue, compared with a synchronized CustomLinkedList.
+ * Reports throughput and bytes allocated per item by the producer.
+ * Usage: SpscQueueBenchmark [items] [capacity] [batch size]
+ */
+public class SpscQueueBenchmark {
+    public static void main(String[] args) throws InterruptedException {
+        int items = Bench.intArg(args, 0, 20_000_000);
+        int capacity = Bench.intArg(args, 1, 1 << 14);
+        int batch = Bench.intArg(args, 2, 256);
+
+        for (int round = 0; round < 3; round++) {
+            spsc(items, capacity, batch);
+            locked(items);
+        }
+    }
+
+    private static void spsc(int items, int capacity, int batch) throws InterruptedException {
+        CustomSpscArrayQueue<Integer> queue = new CustomSpscArrayQueue<>(capacity);
+        Integer item = 42;
+        long[] allocated = new long[1];
+
+        Thread producer = new Thread(() -> {
+            long before = allocatedBytes();
+            for (int i = 0; i < items; i++) {
+                while (!queue.offer(item)) {
+                    Thread.yield();
+                }
+            }
+            allocated[0] = allocatedBytes() - before;
+        });
+        Thread consumer = new Thread(() -> {
+            int[] received = new int[1];
+
+            while (received[0] < items) {
+                if (queue.drain(o -> received[0]++, batch) == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+
+        report("CustomSpscArrayQueue", items, producer, consumer, allocated);
+    }
+
+    private static void locked(int items) throws InterruptedException {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        Integer item = 42;
+        long[] allocated = new long[1];
+
+        Thread producer = new Thread(() -> {
+            long before = allocatedBytes();
+            for (int i = 0; i < items; i++) {
+                synchronized (list) {
+                    list.offer(item);
+                }
+            }
+            allocated[0] = allocatedBytes() - before;
+        });
+        Thread consumer = new Thread(() -> {
+            int received = 0;
+
+            while (received < items) {
+                Integer o;
+                synchronized (list) {
+                    o = list.poll();
+                }
+                if (o == null) {
+                    Thread.yield();
+                } else {
+                    received++;
+                }
+            }
+        });
+
+        report("synchronized CustomLinkedList", items, producer, consumer, allocated);
+    }
+
+    private static void report(String label, int items, Thread producer, Thread consumer, long[] allocated)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-40s %8.1f Mops/s %8.2f bytes/op%n", label,
+                          items * 1e3 / elapsed, (double) allocated[0] / items);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
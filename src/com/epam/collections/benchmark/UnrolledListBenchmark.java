@@ -0,0 +1,94 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.lang.ref.Reference;
+import java.util.function.Supplier;
+
+/**
+ * Footprint and scan benchmark of CustomUnrolledLinkedList against
+ * CustomLinkedList.
+ * Usage: UnrolledListBenchmark [size]
+ */
+public class UnrolledListBenchmark {
+    public static void main(String[] args) {
+        int size = Bench.intArg(args, 0, 1_000_000);
+        Integer[] values = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+
+        long linkedBytes = footprint(() -> {
+            CustomLinkedList<Integer> list = new CustomLinkedList<>();
+            for (Integer value : values) {
+                list.add(value);
+            }
+            return list;
+        });
+        long unrolledBytes = footprint(() -> {
+            CustomUnrolledLinkedList<Integer> list = new CustomUnrolledLinkedList<>();
+            for (Integer value : values) {
+                list.add(value);
+            }
+            return list;
+        });
+
+        System.out.printf("%-48s %12.1f bytes/element%n", "CustomLinkedList footprint",
+                          (double) linkedBytes / size);
+        System.out.printf("%-48s %12.1f bytes/element%n", "CustomUnrolledLinkedList footprint",
+                          (double) unrolledBytes / size);
+
+        CustomLinkedList<Integer> linked = new CustomLinkedList<>();
+        CustomUnrolledLinkedList<Integer> unrolled = new CustomUnrolledLinkedList<>();
+
+        for (Integer value : values) {
+            linked.add(value);
+            unrolled.add(value);
+        }
+
+        Integer missing = -1;
+
+        Bench.measure("CustomLinkedList contains (miss)", size,
+                      () -> Bench.consume(linked.contains(missing)));
+        Bench.measure("CustomUnrolledLinkedList contains (miss)", size,
+                      () -> Bench.consume(unrolled.contains(missing)));
+        Bench.measure("CustomLinkedList iteration", size, () -> {
+            for (Integer value : linked) {
+                Bench.consume(value);
+            }
+        });
+        Bench.measure("CustomUnrolledLinkedList iteration", size, () -> {
+            for (Integer value : unrolled) {
+                Bench.consume(value);
+            }
+        });
+        Bench.measure("CustomLinkedList offer+poll", size, () -> {
+            for (Integer value : values) {
+                linked.offer(value);
+                Bench.consume(linked.poll());
+            }
+        });
+        Bench.measure("CustomUnrolledLinkedList offer+poll", size, () -> {
+            for (Integer value : values) {
+                unrolled.offer(value);
+                Bench.consume(unrolled.poll());
+            }
+        });
+    }
+
+    /**
+     * Bytes allocated while {@code factory} builds its collection, excluding
+     * the elements themselves, which are shared. Appending never copies or
+     * discards nodes, so this is the heap the collection retains.
+     */
+    private static long footprint(Supplier<Object> factory) {
+        long before = Bench.allocatedBytes();
+        Object collection = factory.get();
+        long allocated = Bench.allocatedBytes() - before;
+
+        Reference.reachabilityFence(collection);
+
+        return allocated;
+    }
+}
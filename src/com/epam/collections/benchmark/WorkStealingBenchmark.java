@@ -0,0 +1,137 @@
+package com.epam.collections.benchmark;
+
+import com.epam.collections.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fork-join style scheduler benchmark: workers recursively split a range into
+ * tasks, keep them in a per-worker deque and steal from each other when idle.
+ * Compares CustomWorkStealingDeque with a CustomLinkedList guarded by a lock.
+ * Usage: WorkStealingBenchmark [workers] [range] [leaf size]
+ */
+public class WorkStealingBenchmark {
+    private interface WorkDeque {
+        void push(Long task);
+
+        Long pop();
+
+        Long steal();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int workers = Bench.intArg(args, 0, Runtime.getRuntime().availableProcessors());
+        int range = Bench.intArg(args, 1, 1 << 26);
+        int leaf = Bench.intArg(args, 2, 256);
+
+        for (int round = 0; round < 3; round++) {
+            run("CustomWorkStealingDeque", workers, range, leaf, () -> {
+                CustomWorkStealingDeque<Long> deque = new CustomWorkStealingDeque<>();
+
+                return new WorkDeque() {
+                    @Override
+                    public void push(Long task) {
+                        deque.push(task);
+                    }
+
+                    @Override
+                    public Long pop() {
+                        return deque.pop();
+                    }
+
+                    @Override
+                    public Long steal() {
+                        return deque.steal();
+                    }
+                };
+            });
+            run("locked CustomLinkedList", workers, range, leaf, () -> {
+                CustomLinkedList<Long> list = new CustomLinkedList<>();
+
+                return new WorkDeque() {
+                    @Override
+                    public synchronized void push(Long task) {
+                        list.addFirst(task);
+                    }
+
+                    @Override
+                    public synchronized Long pop() {
+                        return list.isEmpty() ? null : list.removeFirst();
+                    }
+
+                    @Override
+                    public synchronized Long steal() {
+                        return list.isEmpty() ? null : list.removeLast();
+                    }
+                };
+            });
+        }
+    }
+
+    private static void run(String name, int workers, int range, int leaf,
+                            java.util.function.Supplier<WorkDeque> factory) throws InterruptedException {
+        WorkDeque[] deques = new WorkDeque[workers];
+        AtomicLong done = new AtomicLong();
+        AtomicLong checksum = new AtomicLong();
+        Thread[] threads = new Thread[workers];
+
+        for (int w = 0; w < workers; w++) {
+            deques[w] = factory.get();
+        }
+        deques[0].push(encode(0, range));
+
+        for (int w = 0; w < workers; w++) {
+            int self = w;
+
+            threads[w] = new Thread(() -> {
+                WorkDeque own = deques[self];
+                long sum = 0;
+
+                while (done.get() < range) {
+                    Long task = own.pop();
+
+                    if (task == null) {
+                        task = deques[ThreadLocalRandom.current().nextInt(workers)].steal();
+                    }
+                    if (task == null) {
+                        Thread.yield();
+                        continue;
+                    }
+
+                    int lo = (int) (task >>> 32);
+                    int hi = (int) (long) task;
+
+                    // Split until the range is small enough, keeping the left
+                    // half and offering the right half to thieves.
+                    while (hi - lo > leaf) {
+                        int mid = (lo + hi) >>> 1;
+                        own.push(encode(mid, hi));
+                        hi = mid;
+                    }
+                    for (int i = lo; i < hi; i++) {
+                        sum += (long) i * i % 7;
+                    }
+                    done.addAndGet(hi - lo);
+                }
+                checksum.addAndGet(sum);
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-40s %3d workers %10.1f ms (checksum %d)%n", name, workers,
+                          elapsed / 1e6, checksum.get());
+    }
+
+    private static Long encode(int lo, int hi) {
+        return (long) lo << 32 | hi;
+    }
+}
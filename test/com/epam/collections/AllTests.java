@@ -0,0 +1,49 @@
+package com.epam.collections;
+
+/**
+ * Runs every test class and exits with status 1 if any of them failed.
+ * Usage: AllTests
+ */
+public class AllTests {
+    public static void main(String[] args) {
+        Runnable[] tests = {
+                CustomArrayListTest::run,
+                CustomLinkedListTest::run,
+                CustomTreeSetTest::run,
+                CustomHashSetTest::run,
+                CustomUnrolledLinkedListTest::run,
+                CustomIndexedSkipListTest::run,
+                CustomTieredListTest::run,
+                CustomPriorityQueueTest::run,
+                CustomPairingHeapTest::run,
+                QueryTest::run,
+                BloomFilterTest::run,
+                FootprintTest::run,
+                CustomJournaledQueueTest::run,
+                CustomConcurrentLinkedQueueTest::run,
+                CustomLinkedBlockingQueueTest::run,
+                CustomHashMapTest::run,
+                IntObjectMapTest::run,
+                LongLongMapTest::run,
+                CustomSpscArrayQueueTest::run,
+                CustomWorkStealingDequeTest::run,
+                StampedAccessTest::run,
+                CustomCacheTest::run,
+        };
+        int failed = 0;
+
+        for (Runnable test : tests) {
+            try {
+                test.run();
+            } catch (RuntimeException | AssertionError e) {
+                failed++;
+                e.printStackTrace();
+            }
+        }
+
+        System.out.println(failed == 0 ? "All tests passed" : failed + " test class(es) failed");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+}
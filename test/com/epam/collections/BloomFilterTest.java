@@ -0,0 +1,252 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for the {@link BloomFilter} membership front of
+ * {@link CustomLinkedList} and {@link CustomTreeSet}. After every change,
+ * including the ones that bypass the filter and the removals that make it
+ * rebuild, contains must agree with a reference collection: a filter that
+ * misses an element turns into a wrong answer.
+ */
+public class BloomFilterTest {
+    private static final int VALUES = 400;
+
+    public static void main(String[] args) {
+        run();
+        System.out.println("BloomFilterTest passed");
+    }
+
+    static void run() {
+        filterNeverMissesAnElement();
+        filteredLinkedListMatchesReference();
+        filteredTreeSetMatchesReference();
+    }
+
+    private static void filterNeverMissesAnElement() {
+        BloomFilter filter = new BloomFilter();
+        Random random = new Random(1);
+        Set<Integer> added = new HashSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            Integer value = random.nextInt();
+            filter.add(value);
+            added.add(value);
+        }
+        for (Integer value : added) {
+            Check.check(filter.mightContain(value), "false negative for " + value);
+        }
+
+        Check.check(filter.isStale(added.size()), "stale once over capacity");
+        filter.reset(added.size());
+        Check.check(!filter.isStale(added.size()), "fresh after reset");
+        filter.invalidate();
+        Check.check(filter.isStale(added.size()), "stale after invalidate");
+    }
+
+    private static void filteredLinkedListMatchesReference() {
+        Random random = new Random(2);
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        list.setMembershipFilterEnabled(true);
+        for (int step = 0; step < 20_000; step++) {
+            String at = "step " + step;
+            int size = expected.size();
+            Integer value = random.nextInt(VALUES);
+
+            switch (random.nextInt(16)) {
+                case 0:
+                case 1:
+                    list.add(value);
+                    expected.add(value);
+                    break;
+                case 2: {
+                    int index = random.nextInt(size + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                    break;
+                }
+                case 3:
+                    list.addFirst(value);
+                    expected.add(0, value);
+                    break;
+                case 4:
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        Check.equal(expected.set(index, value), list.set(index, value), at + ": set");
+                    }
+                    break;
+                case 5:
+                    if (size > 0) {
+                        // Replace and insert through the list iterator.
+                        ListIterator<Integer> it = list.iterator();
+                        int index = random.nextInt(size);
+                        for (int i = 0; i <= index; i++) {
+                            it.next();
+                        }
+                        it.set(value);
+                        expected.set(index, value);
+                        it.add(value + 1);
+                        expected.add(index + 1, value + 1);
+                    }
+                    break;
+                case 6:
+                case 7: {
+                    // Splice in a list that holds values the filter has not seen.
+                    CustomLinkedList<Integer> other = new CustomLinkedList<>();
+                    other.setMembershipFilterEnabled(random.nextBoolean());
+                    for (int i = 0, n = 1 + random.nextInt(5); i < n; i++) {
+                        other.add(random.nextInt(VALUES));
+                    }
+                    int index = random.nextInt(size + 1);
+                    expected.addAll(index, other);
+                    if (random.nextBoolean()) {
+                        list.spliceAt(index, other);
+                    } else {
+                        expected.subList(index, expected.size()).clear();
+                        expected.addAll(other);
+                        list.splitAt(index);
+                        list.transferAll(other);
+                    }
+                    Check.equal(0, other.size(), at + ": source emptied");
+                    break;
+                }
+                case 8:
+                case 9:
+                    Check.equal(expected.remove(value), list.remove(value), at + ": remove " + value);
+                    break;
+                case 10:
+                    if (size > 0) {
+                        Check.equal(expected.remove(0), list.removeFirst(), at + ": removeFirst");
+                    }
+                    break;
+                case 11:
+                    if (size > 0) {
+                        // Remove through the iterator after stepping back with previous().
+                        ListIterator<Integer> it = list.iterator();
+                        int index = random.nextInt(size);
+                        for (int i = 0; i <= index; i++) {
+                            it.next();
+                        }
+                        Check.equal(expected.get(index), it.previous(), at + ": previous");
+                        it.remove();
+                        expected.remove(index);
+                    }
+                    break;
+                case 12:
+                    if (random.nextInt(10) == 0) {
+                        Set<Integer> c = new HashSet<>();
+                        for (int i = 0; i < VALUES / 4; i++) {
+                            c.add(random.nextInt(VALUES));
+                        }
+                        if (random.nextBoolean()) {
+                            Check.equal(expected.removeAll(c), list.removeAll(c), at + ": removeAll");
+                        } else {
+                            c.addAll(c.size() > 0 ? expected.subList(0, size / 2) : expected);
+                            Check.equal(expected.retainAll(c), list.retainAll(c), at + ": retainAll");
+                        }
+                    }
+                    break;
+                case 13:
+                    if (random.nextInt(50) == 0) {
+                        list.setMembershipFilterEnabled(false);
+                        list.add(value);
+                        expected.add(value);
+                        list.setMembershipFilterEnabled(true);
+                    }
+                    break;
+                case 14:
+                    if (random.nextInt(100) == 0) {
+                        list.clear();
+                        expected.clear();
+                    }
+                    break;
+                default:
+                    if (random.nextInt(20) == 0) {
+                        list.sort(null);
+                        Collections.sort(expected);
+                    }
+                    break;
+            }
+
+            Check.equal(expected.size(), list.size(), at + ": size");
+            for (int probe = 0; probe < VALUES + 1; probe += 1 + random.nextInt(8)) {
+                Check.equal(expected.contains(probe), list.contains(probe), at + ": contains " + probe);
+            }
+        }
+
+        Check.check(list.isMembershipFilterEnabled(), "filter still enabled");
+        Check.equal(expected, Arrays.asList(list.toArray()), "contents");
+    }
+
+    private static void filteredTreeSetMatchesReference() {
+        Random random = new Random(3);
+        CustomTreeSet<Integer> set = new CustomTreeSet<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        set.setMembershipFilterEnabled(true);
+        for (int step = 0; step < 20_000; step++) {
+            String at = "step " + step;
+            Integer value = random.nextInt(VALUES);
+
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                    Check.equal(expected.add(value), set.add(value), at + ": add " + value);
+                    break;
+                case 2:
+                case 3:
+                    // Removals make the filter stale and rebuild it on a later lookup.
+                    Check.equal(expected.remove(value), set.remove(value), at + ": remove " + value);
+                    break;
+                case 4:
+                    if (random.nextInt(10) == 0) {
+                        // At least as large as the set, so the tree is rebuilt in bulk.
+                        List<Integer> batch = new ArrayList<>();
+                        for (int i = 0, n = expected.size() + 1; i < n; i++) {
+                            batch.add(random.nextInt(VALUES));
+                        }
+                        Check.equal(expected.addAll(batch), set.addAll(batch), at + ": addAll");
+                    }
+                    break;
+                case 5:
+                    if (random.nextInt(10) == 0) {
+                        CustomTreeSet<Integer> other = new CustomTreeSet<>();
+                        for (int i = 0, n = random.nextInt(VALUES); i < n; i++) {
+                            other.add(random.nextInt(VALUES));
+                        }
+                        Check.equal(expected.addAll(other), set.addAll(other), at + ": addAll tree");
+                    }
+                    break;
+                case 6:
+                    if (random.nextInt(10) == 0) {
+                        Set<Integer> c = new HashSet<>();
+                        for (int i = 0; i < VALUES / 2; i++) {
+                            c.add(random.nextInt(VALUES));
+                        }
+                        if (random.nextBoolean()) {
+                            Check.equal(expected.removeAll(c), set.removeAll(c), at + ": removeAll");
+                        } else {
+                            Check.equal(expected.retainAll(c), set.retainAll(c), at + ": retainAll");
+                        }
+                    }
+                    break;
+                default:
+                    if (random.nextInt(100) == 0) {
+                        set.clear();
+                        expected.clear();
+                    }
+                    break;
+            }
+
+            Check.equal(expected.size(), set.size(), at + ": size");
+            for (int probe = 0; probe < VALUES + 1; probe += 1 + random.nextInt(8)) {
+                Check.equal(expected.contains(probe), set.contains(probe), at + ": contains " + probe);
+            }
+        }
+
+        Check.check(set.isMembershipFilterEnabled(), "filter still enabled");
+        Check.equal(new ArrayList<>(expected), Arrays.asList(set.toArray()), "contents");
+    }
+}
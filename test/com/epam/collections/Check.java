@@ -0,0 +1,40 @@
+package com.epam.collections;
+
+import java.util.Objects;
+
+/**
+ * Minimal assertions for the plain-Java tests, which run without a test
+ * framework. Every failed check throws an AssertionError.
+ */
+final class Check {
+    private Check() {}
+
+    interface Action {
+        void run() throws Exception;
+    }
+
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static void equal(Object expected, Object actual, String message) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError(message + ": expected <" + expected + "> but was <" + actual + ">");
+        }
+    }
+
+    static <E extends Throwable> E expect(Class<E> type, Action action, String message) {
+        try {
+            action.run();
+        } catch (Throwable t) {
+            if (type.isInstance(t)) {
+                return type.cast(t);
+            }
+            throw new AssertionError(message + ": expected " + type.getName() + " but got " + t, t);
+        }
+
+        throw new AssertionError(message + ": expected " + type.getName());
+    }
+}
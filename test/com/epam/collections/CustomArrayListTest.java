@@ -0,0 +1,246 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomArrayList}. The metrics checks need
+ * {@code -Dcom.epam.collections.metrics=true} and are skipped without it.
+ */
+public class CustomArrayListTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomArrayListTest passed");
+    }
+
+    static void run() {
+        endOperationsWrapAroundTheBuffer();
+        middleOperationsAcrossTheWrapPoint();
+        addAllAndResizeWhileWrapped();
+        matchesArrayListUnderRandomOperations();
+        shrinkingIsNotCountedAsResize();
+    }
+
+    // With capacity 8, adding at index 0 of a non-full list moves head
+    // from 0 to 7, so the elements wrap around the end of the array.
+    private static void endOperationsWrapAroundTheBuffer() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(8);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        for (int i = 1; i <= 3; i++) {
+            list.add(0, -i);
+            expected.add(0, -i);
+            same(expected, list, "add at head " + -i);
+        }
+
+        list.add(4);
+        expected.add(4);
+        same(expected, list, "add at tail of a wrapped list");
+
+        Check.equal(expected.remove(0), list.remove(0), "remove head");
+        Check.equal(expected.remove(expected.size() - 1), list.remove(list.size() - 1), "remove tail");
+        same(expected, list, "after end removals");
+
+        while (!expected.isEmpty()) {
+            Check.equal(expected.remove(0), list.remove(0), "drain from head");
+            same(expected, list, "draining");
+        }
+
+        list.add(0, 7);
+        list.add(8);
+        same(Arrays.asList(7, 8), list, "reuse after draining");
+    }
+
+    private static void middleOperationsAcrossTheWrapPoint() {
+        for (int index = 0; index <= 6; index++) {
+            CustomArrayList<Integer> list = wrapped(8);
+            List<Integer> expected = new ArrayList<>(list);
+
+            list.add(index, 100);
+            expected.add(index, 100);
+            same(expected, list, "add at " + index);
+
+            list.set(index, 101);
+            expected.set(index, 101);
+            same(expected, list, "set at " + index);
+
+            Check.equal(expected.remove(index + 1), list.remove(index + 1), "remove at " + (index + 1));
+            same(expected, list, "remove at " + (index + 1));
+
+            Check.equal(expected.remove((Integer) 101), list.remove((Integer) 101), "remove(Object)");
+            same(expected, list, "remove(Object) at " + index);
+        }
+
+        CustomArrayList<Integer> list = wrapped(8);
+        List<Integer> expected = new ArrayList<>(list);
+        Set<Integer> odd = new HashSet<>(Arrays.asList(-3, -1, 1));
+
+        Check.equal(expected.subList(1, 5), list.subList(1, 5), "subList across the wrap point");
+
+        list.removeAll(odd);
+        expected.removeAll(odd);
+        same(expected, list, "removeAll");
+
+        list.retainAll(Arrays.asList(-2, 0, 2));
+        expected.retainAll(Arrays.asList(-2, 0, 2));
+        same(expected, list, "retainAll");
+    }
+
+    private static void addAllAndResizeWhileWrapped() {
+        for (int index = 0; index <= 6; index++) {
+            CustomArrayList<Integer> list = wrapped(16);
+            List<Integer> expected = new ArrayList<>(list);
+            List<Integer> block = Arrays.asList(10, 11, 12);
+
+            list.addAll(index, block);
+            expected.addAll(index, block);
+            same(expected, list, "addAll at " + index + " without resize");
+
+            // Crosses capacity 16, so the wrapped buffer is reallocated.
+            List<Integer> big = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                big.add(20 + i);
+            }
+
+            list.addAll(index, big);
+            expected.addAll(index, big);
+            same(expected, list, "addAll at " + index + " with resize");
+
+            list.addAll(index, list);
+            expected.addAll(index, new ArrayList<>(expected));
+            same(expected, list, "addAll of itself at " + index);
+        }
+
+        CustomArrayList<Integer> list = wrapped(8);
+        List<Integer> expected = new ArrayList<>(list);
+
+        for (int i = 0; i < 20; i++) {
+            list.add(0, 50 + i);
+            expected.add(0, 50 + i);
+            list.add(60 + i);
+            expected.add(60 + i);
+            same(expected, list, "growth at both ends " + i);
+        }
+
+        list.trimToSize();
+        same(expected, list, "trimToSize");
+    }
+
+    private static void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(1);
+        CustomArrayList<Integer> list = new CustomArrayList<>(4);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int bound = expected.size();
+
+            switch (random.nextInt(6)) {
+                case 0:
+                    list.add(0, i);
+                    expected.add(0, i);
+                    break;
+                case 1:
+                    list.add(i);
+                    expected.add(i);
+                    break;
+                case 2: {
+                    int index = random.nextInt(bound + 1);
+                    list.add(index, i);
+                    expected.add(index, i);
+                    break;
+                }
+                case 3:
+                    if (bound > 0) {
+                        int index = random.nextInt(bound);
+                        Check.equal(expected.remove(index), list.remove(index), "remove at " + index);
+                    }
+                    break;
+                case 4: {
+                    int index = random.nextInt(bound + 1);
+                    List<Integer> block = Arrays.asList(i, i + 1, i + 2);
+                    list.addAll(index, block);
+                    expected.addAll(index, block);
+                    break;
+                }
+                default:
+                    if (bound > 0) {
+                        Check.equal(expected.remove(0), list.remove(0), "remove head");
+                    }
+                    break;
+            }
+
+            Check.equal(expected.size(), list.size(), "size");
+        }
+
+        same(expected, list, "after random operations");
+    }
+
+    /**
+     * Returns [-3, -2, -1, 0, 1, 2, 3] in a list whose head has wrapped past
+     * the start of its array.
+     */
+    private static CustomArrayList<Integer> wrapped(int capacity) {
+        CustomArrayList<Integer> list = new CustomArrayList<>(capacity);
+
+        for (int i = 0; i <= 3; i++) {
+            list.add(i);
+        }
+        for (int i = 1; i <= 3; i++) {
+            list.add(0, -i);
+        }
+
+        return list;
+    }
+
+    private static void same(List<Integer> expected, CustomArrayList<Integer> list, String message) {
+        Check.equal(expected.size(), list.size(), message + ": size");
+        for (int i = 0; i < expected.size(); i++) {
+            Check.equal(expected.get(i), list.get(i), message + ": get(" + i + ")");
+        }
+        Check.equal(expected, Arrays.asList(list.toArray()), message + ": toArray");
+        Check.equal(expected, Arrays.asList(list.toArray(new Integer[0])), message + ": toArray(T[])");
+
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : list) {
+            iterated.add(value);
+        }
+        Check.equal(expected, iterated, message + ": iterator");
+    }
+
+    private static void shrinkingIsNotCountedAsResize() {
+        if (!CollectionMetrics.ENABLED) {
+            System.out.println("CustomArrayListTest: metrics disabled, resize counting not checked");
+            return;
+        }
+
+        CollectionMetrics.reset();
+
+        CustomArrayList<Integer> list = new CustomArrayList<>(2);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        long resizes = CollectionMetrics.resizes();
+        long copies = CollectionMetrics.resizeCopies();
+
+        Check.check(resizes > 0, "growth is counted");
+
+        list.setShrinkPolicy(CustomArrayList.ShrinkPolicy.QUARTER_FULL);
+        while (list.size() > 5) {
+            list.remove(list.size() - 1);
+        }
+        list.trimToSize();
+        list.trimIfIdle();
+        list.trimIfIdle();
+
+        Check.equal(resizes, CollectionMetrics.resizes(), "shrinks counted as resizes");
+        Check.equal(copies, CollectionMetrics.resizeCopies(), "shrinks counted as resize copies");
+
+        list.ensureCapacity(1000);
+        Check.equal(resizes + 1, CollectionMetrics.resizes(), "ensureCapacity growth");
+    }
+}
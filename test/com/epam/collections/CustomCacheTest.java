@@ -0,0 +1,174 @@
+package com.epam.collections;
+
+/**
+ * Tests for {@link CustomCache}.
+ */
+public class CustomCacheTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomCacheTest passed");
+    }
+
+    static void run() {
+        lruEvictsLeastRecentlyUsed();
+        lfuEvictsLeastFrequentlyUsed();
+        lfuNeverEvictsTheEntryBeingInserted();
+        tinyLfuRejectsAColdCandidate();
+        tinyLfuAdmitsAFrequentCandidate();
+        statisticsCountHitsMissesAndEvictions();
+    }
+
+    private static void lruEvictsLeastRecentlyUsed() {
+        CustomCache<String, Integer> cache = new CustomCache<>(3, CustomCache.EvictionPolicy.LRU);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.put("d", 4);
+
+        Check.check(!cache.containsKey("b"), "b, the least recently used, is evicted");
+        Check.check(cache.containsKey("a"), "a was used after b");
+
+        cache.put("c", 30);
+        cache.put("e", 5);
+
+        Check.check(!cache.containsKey("a"), "a is evicted next");
+        cache.put("f", 6);
+        Check.check(!cache.containsKey("d"), "d is evicted after a");
+        Check.equal(30, cache.get("c"), "updating c made it recently used");
+        Check.equal(3, cache.size(), "size");
+    }
+
+    private static void lfuEvictsLeastFrequentlyUsed() {
+        CustomCache<String, Integer> cache = new CustomCache<>(3, CustomCache.EvictionPolicy.LFU);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("a");
+        cache.get("c");
+        cache.put("d", 4);
+
+        Check.check(!cache.containsKey("b"), "b, used once, is evicted");
+
+        cache.get("d");
+        cache.put("e", 5);
+
+        Check.check(!cache.containsKey("c"), "c is the oldest entry used twice");
+        Check.check(cache.containsKey("a") && cache.containsKey("d"), "a and d are kept");
+    }
+
+    private static void lfuNeverEvictsTheEntryBeingInserted() {
+        CustomCache<String, Integer> cache = new CustomCache<>(3, CustomCache.EvictionPolicy.LFU);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        for (String key : new String[] {"b", "a", "c", "a"}) {
+            cache.get(key);
+        }
+
+        // Every other entry has been used more often than the new one.
+        cache.put("d", 4);
+
+        Check.check(cache.containsKey("d"), "d survives its own insertion");
+        Check.check(!cache.containsKey("b"), "b, the oldest of the least used, is evicted instead");
+
+        cache.put("e", 5);
+
+        Check.check(cache.containsKey("e"), "e survives its own insertion");
+        Check.check(!cache.containsKey("d"), "d, used once, is evicted");
+        Check.equal(3, cache.size(), "size");
+    }
+
+    // With a maximum size of 100 the window holds a single entry, so every
+    // insertion pushes the previous new entry out of the window as the
+    // candidate for admission.
+    private static CustomCache<Integer, Integer> warmTinyLfuCache() {
+        CustomCache<Integer, Integer> cache = new CustomCache<>(100, CustomCache.EvictionPolicy.W_TINY_LFU);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 99; i++) {
+                cache.get(i);
+            }
+        }
+
+        return cache;
+    }
+
+    private static void tinyLfuRejectsAColdCandidate() {
+        CustomCache<Integer, Integer> cache = warmTinyLfuCache();
+
+        cache.put(1000, 1000);
+
+        Check.equal(1L, cache.evictionCount(), "evictions");
+        Check.check(!cache.containsKey(99), "99, seen once, loses to the frequently used entries");
+        Check.check(cache.containsKey(1000), "the new entry stays in the window");
+        Check.equal(99, present(cache, 0, 99), "frequently used entries kept");
+    }
+
+    private static void tinyLfuAdmitsAFrequentCandidate() {
+        CustomCache<Integer, Integer> cache = warmTinyLfuCache();
+
+        // Misses are recorded too, so 1000 is more popular than any cached entry.
+        for (int i = 0; i < 10; i++) {
+            cache.get(1000);
+        }
+        cache.put(1000, 1000);
+        cache.put(1001, 1001);
+
+        Check.check(cache.containsKey(1000), "1000 is admitted out of the window");
+        Check.check(cache.containsKey(1001), "the newest entry stays in the window");
+        Check.equal(98, present(cache, 0, 99), "one frequently used entry was displaced");
+        Check.equal(100, cache.size(), "size");
+    }
+
+    private static void statisticsCountHitsMissesAndEvictions() {
+        CustomCache<String, Integer> cache = new CustomCache<>(2);
+
+        Check.equal(1.0, cache.hitRate(), "hit rate before any get");
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("a");
+        cache.get("x");
+        cache.containsKey("b");
+        cache.put("c", 3);
+        cache.put("c", 4);
+        cache.remove("a");
+
+        Check.equal(2L, cache.hitCount(), "hits");
+        Check.equal(1L, cache.missCount(), "misses");
+        Check.equal(1L, cache.evictionCount(), "evictions, not removals");
+        Check.equal(2.0 / 3, cache.hitRate(), "hit rate");
+
+        Check.equal(4, cache.computeIfAbsent("c", k -> 5), "computeIfAbsent on a hit");
+        Check.equal(6, cache.computeIfAbsent("d", k -> 6), "computeIfAbsent on a miss");
+        Check.equal(3L, cache.hitCount(), "hits after computeIfAbsent");
+        Check.equal(2L, cache.missCount(), "misses after computeIfAbsent");
+
+        cache.clear();
+        Check.equal(3L, cache.hitCount(), "clear keeps the statistics");
+
+        cache.resetStats();
+        Check.equal(0L, cache.hitCount() + cache.missCount() + cache.evictionCount(), "reset statistics");
+    }
+
+    private static int present(CustomCache<Integer, Integer> cache, int from, int to) {
+        int count = 0;
+
+        for (int i = from; i < to; i++) {
+            if (cache.containsKey(i)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,165 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for {@link CustomConcurrentLinkedQueue}.
+ */
+public class CustomConcurrentLinkedQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ITEMS = 50_000;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomConcurrentLinkedQueueTest passed");
+    }
+
+    static void run() {
+        try {
+            everyElementIsPolledOnceInProducerOrder();
+            iteratorNeverReturnsNullDuringPolls();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Producers offer (producer, sequence) pairs while consumers poll them.
+     * Every pair must be polled exactly once, and each consumer must see
+     * the pairs of one producer in increasing sequence order.
+     */
+    private static void everyElementIsPolledOnceInProducerOrder() throws InterruptedException {
+        CustomConcurrentLinkedQueue<Long> queue = new CustomConcurrentLinkedQueue<>();
+        long total = (long) PRODUCERS * ITEMS;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        AtomicLong consumed = new AtomicLong();
+        AtomicIntegerArray polled = new AtomicIntegerArray(PRODUCERS * ITEMS);
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            long base = (long) p << 32;
+
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ITEMS; i++) {
+                    queue.offer(base | i);
+                }
+            }));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            threads.add(new Thread(() -> {
+                int[] lastSeen = new int[PRODUCERS];
+                Arrays.fill(lastSeen, -1);
+                await(start);
+
+                while (consumed.get() < total && System.nanoTime() < deadline) {
+                    Long value = queue.poll();
+
+                    if (value == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    consumed.incrementAndGet();
+
+                    int producer = (int) (value >>> 32);
+                    int sequence = (int) (long) value;
+
+                    if (sequence <= lastSeen[producer]) {
+                        failures.add("producer " + producer + " item " + sequence
+                                     + " polled after item " + lastSeen[producer]);
+                    }
+                    lastSeen[producer] = sequence;
+                    polled.incrementAndGet(producer * ITEMS + sequence);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Check.check(failures.isEmpty(), failures.isEmpty() ? "" : failures.get(0));
+        Check.equal(total, consumed.get(), "elements polled before the timeout");
+        for (int i = 0; i < polled.length(); i++) {
+            Check.equal(1, polled.get(i), "times producer " + i / ITEMS + " item " + i % ITEMS + " was polled");
+        }
+        Check.check(queue.isEmpty(), "queue is empty once everything was polled");
+        Check.equal(null, queue.poll(), "poll from the drained queue");
+    }
+
+    /**
+     * Iterates while other threads poll. Every element the iterator hands
+     * out must be one that was offered, never null, and in offer order.
+     */
+    private static void iteratorNeverReturnsNullDuringPolls() throws InterruptedException {
+        CustomConcurrentLinkedQueue<Integer> queue = new CustomConcurrentLinkedQueue<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        threads.add(new Thread(() -> {
+            for (int i = 0; i < 4 * ITEMS; i++) {
+                queue.offer(i);
+                if (i % 2 == 1) {
+                    queue.poll();
+                }
+            }
+            while (queue.poll() != null) {
+                // drain the rest
+            }
+            done.countDown();
+        }));
+        for (int r = 0; r < 2; r++) {
+            threads.add(new Thread(() -> {
+                while (done.getCount() > 0 && System.nanoTime() < deadline) {
+                    int last = -1;
+
+                    for (Iterator<Integer> it = queue.iterator(); it.hasNext(); ) {
+                        Integer value = it.next();
+
+                        if (value == null) {
+                            failures.add("iterator returned null");
+                            return;
+                        }
+                        if (value <= last) {
+                            failures.add("iterator returned " + value + " after " + last);
+                            return;
+                        }
+                        last = value;
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Check.check(failures.isEmpty(), failures.isEmpty() ? "" : failures.get(0));
+        Check.check(!queue.iterator().hasNext(), "iterator of the drained queue");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomHashMap}, checked against {@link HashMap}.
+ */
+public class CustomHashMapTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomHashMapTest passed");
+    }
+
+    static void run() {
+        matchesHashMapUnderRandomOperations();
+        equalsAndHashCodeFollowTheMapContract();
+        viewsAreBackedByTheMap();
+        viewsAreReadOnly();
+        replaceAllWritesThrough();
+    }
+
+    private static void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(1);
+        CustomHashMap<Integer, Integer> map = new CustomHashMap<>();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            Integer key = random.nextInt(500);
+
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    Check.equal(expected.put(key, i), map.put(key, i), "put " + key);
+                    break;
+                case 2:
+                    Check.equal(expected.remove(key), map.remove(key), "remove " + key);
+                    break;
+                default:
+                    Check.equal(expected.get(key), map.get(key), "get " + key);
+                    break;
+            }
+
+            Check.equal(expected.size(), map.size(), "size");
+        }
+
+        Check.equal(expected, map, "HashMap equals CustomHashMap");
+        Check.equal(map, expected, "CustomHashMap equals HashMap");
+        Check.equal(expected.keySet(), map.keySet(), "keySet");
+        Check.equal(expected.entrySet(), map.entrySet(), "entrySet");
+        Check.equal(new TreeSet<>(expected.values()), new TreeSet<>(map.values()), "values");
+    }
+
+    private static void equalsAndHashCodeFollowTheMapContract() {
+        CustomHashMap<String, Integer> map = new CustomHashMap<>();
+        HashMap<String, Integer> hashMap = new HashMap<>();
+
+        for (int i = 0; i < 100; i++) {
+            map.put("k" + i, i);
+            hashMap.put("k" + i, i);
+        }
+
+        Check.check(map.equals(hashMap), "equals HashMap");
+        Check.check(new HashMap<>(map).equals(map), "copy equals map");
+        Check.check(map.equals(new CustomHashMap<>(map)), "equals CustomHashMap copy");
+        Check.equal(hashMap.hashCode(), map.hashCode(), "hashCode");
+
+        hashMap.put("k0", -1);
+        Check.check(!map.equals(hashMap), "equals with a different value");
+
+        hashMap.remove("k0");
+        hashMap.put("other", 0);
+        Check.check(!map.equals(hashMap), "equals with a different key");
+        Check.check(!map.equals(new TreeMap<>(Collections.singletonMap(1, 1))), "equals with other key type");
+        Check.check(!map.equals(map.keySet()), "equals a set");
+    }
+
+    private static void viewsAreBackedByTheMap() {
+        CustomHashMap<Integer, String> map = new CustomHashMap<>();
+        Set<Integer> keys = map.keySet();
+        Collection<String> values = map.values();
+        Set<Map.Entry<Integer, String>> entries = map.entrySet();
+
+        map.put(1, "a");
+        map.put(2, "b");
+
+        Check.equal(2, keys.size(), "keySet size");
+        Check.check(keys.contains(2), "keySet contains");
+        Check.check(values.contains("b"), "values contains");
+        Check.check(entries.contains(new AbstractMap.SimpleEntry<>(1, "a")), "entrySet contains");
+        Check.check(!entries.contains(new AbstractMap.SimpleEntry<>(1, "b")), "entrySet contains a wrong value");
+
+        map.remove(1);
+        Check.check(!keys.contains(1), "keySet after remove");
+        Check.equal(Collections.singleton(2), keys, "keySet contents");
+
+        Iterator<Integer> iterator = keys.iterator();
+        map.put(3, "c");
+        Check.expect(ConcurrentModificationException.class, iterator::next, "iterator after put");
+    }
+
+    private static void viewsAreReadOnly() {
+        CustomHashMap<Integer, String> map = new CustomHashMap<>();
+        map.put(1, "a");
+
+        Check.expect(UnsupportedOperationException.class, () -> map.keySet().remove(1), "keySet remove");
+        Check.expect(UnsupportedOperationException.class, () -> map.values().clear(), "values clear");
+        Check.expect(UnsupportedOperationException.class,
+                     () -> map.entrySet().iterator().next().setValue("b"), "entry setValue");
+        Check.equal(Collections.singletonMap(1, "a"), map, "map after failed view changes");
+    }
+
+    private static void replaceAllWritesThrough() {
+        CustomHashMap<Integer, Integer> map = new CustomHashMap<>();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 50; i++) {
+            map.put(i, i);
+            expected.put(i, i);
+        }
+
+        map.replaceAll((k, v) -> k * v);
+        expected.replaceAll((k, v) -> k * v);
+        Check.equal(expected, map, "replaceAll");
+        Check.expect(NullPointerException.class, () -> map.replaceAll((k, v) -> null), "replaceAll with null");
+    }
+}
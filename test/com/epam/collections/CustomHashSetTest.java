@@ -0,0 +1,177 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomHashSet}, checked against {@link HashSet}.
+ */
+public class CustomHashSetTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomHashSetTest passed");
+    }
+
+    static void run() {
+        matchesHashSetUnderRandomOperations();
+        iteratorRemoveAcrossAWrappedRun();
+        iteratorRemoveInSmallTables();
+        bulkRemovalTakesBothPaths();
+    }
+
+    private static void matchesHashSetUnderRandomOperations() {
+        Random random = new Random(1);
+        CustomHashSet<Integer> set = new CustomHashSet<>(2);
+        HashSet<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            Integer value = random.nextInt(500);
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    Check.equal(expected.add(value), set.add(value), "add " + value);
+                    break;
+                case 1:
+                    Check.equal(expected.remove(value), set.remove(value), "remove " + value);
+                    break;
+                default:
+                    Check.equal(expected.contains(value), set.contains(value), "contains " + value);
+                    break;
+            }
+
+            Check.equal(expected.size(), set.size(), "size");
+        }
+
+        Check.equal(expected, new HashSet<>(Arrays.asList(set.toArray())), "contents");
+        Check.equal(expected, iterated(set), "iteration");
+    }
+
+    /**
+     * Four elements with home slot 7 in an 8-slot table fill slots 7, 0, 1
+     * and 2. Removing the one in slot 7 through the iterator shifts the
+     * others back across the end of the table.
+     */
+    private static void iteratorRemoveAcrossAWrappedRun() {
+        CustomHashSet<Integer> set = new CustomHashSet<>(4);
+        List<Integer> keys = keysWithHome(7, 7, 4);
+
+        set.addAll(keys);
+        Check.equal(keys.get(0), set.toArray()[3], "first key in the last slot, the rest wrapped");
+
+        List<Integer> seen = new ArrayList<>();
+
+        for (Iterator<Integer> it = set.iterator(); it.hasNext(); ) {
+            Integer value = it.next();
+
+            seen.add(value);
+            if (value.equals(keys.get(0)) || value.equals(keys.get(2))) {
+                it.remove();
+            }
+        }
+
+        Check.equal(new HashSet<>(keys), new HashSet<>(seen), "every element returned");
+        Check.equal(keys.size(), seen.size(), "no element returned twice");
+        Check.equal(new HashSet<>(Arrays.asList(keys.get(1), keys.get(3))), iterated(set), "remaining");
+        for (Integer key : keys) {
+            Check.equal(key.equals(keys.get(1)) || key.equals(keys.get(3)), set.contains(key),
+                        "contains " + key);
+        }
+    }
+
+    // Small tables make probe runs wrap past slot 0 often.
+    private static void iteratorRemoveInSmallTables() {
+        Random random = new Random(2);
+
+        for (int round = 0; round < 2_000; round++) {
+            CustomHashSet<Integer> set = new CustomHashSet<>(4);
+            Set<Integer> expected = new HashSet<>();
+            int count = 1 + random.nextInt(4);
+
+            while (expected.size() < count) {
+                Integer value = random.nextInt(1000);
+                expected.add(value);
+                set.add(value);
+            }
+
+            List<Integer> seen = new ArrayList<>();
+            Set<Integer> kept = new HashSet<>(expected);
+
+            for (Iterator<Integer> it = set.iterator(); it.hasNext(); ) {
+                Integer value = it.next();
+
+                seen.add(value);
+                if (random.nextBoolean()) {
+                    it.remove();
+                    kept.remove(value);
+                }
+            }
+
+            Check.equal(expected.size(), seen.size(), "elements returned in round " + round);
+            Check.equal(expected, new HashSet<>(seen), "every element returned in round " + round);
+            Check.equal(kept, iterated(set), "remaining in round " + round);
+            for (Integer value : expected) {
+                Check.equal(kept.contains(value), set.contains(value), "contains " + value);
+            }
+        }
+    }
+
+    private static void bulkRemovalTakesBothPaths() {
+        List<Integer> all = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            all.add(i);
+        }
+
+        Set<Integer> few = new HashSet<>(Arrays.asList(3, 50, 199, 1000));
+        Set<Integer> many = new HashSet<>();
+
+        for (int i = 0; i < 400; i += 3) {
+            many.add(i);
+        }
+
+        for (Set<Integer> c : Arrays.asList(few, many)) {
+            CustomHashSet<Integer> set = new CustomHashSet<>(all);
+            Set<Integer> expected = new HashSet<>(all);
+
+            Check.equal(expected.removeAll(c), set.removeAll(c), "removeAll of " + c.size());
+            Check.equal(expected, iterated(set), "after removeAll of " + c.size());
+            Check.equal(false, set.removeAll(c), "removeAll again");
+
+            set = new CustomHashSet<>(all);
+            expected = new HashSet<>(all);
+
+            Check.equal(expected.retainAll(c), set.retainAll(c), "retainAll of " + c.size());
+            Check.equal(expected, iterated(set), "after retainAll of " + c.size());
+            for (int i = 0; i < 400; i++) {
+                Check.equal(expected.contains(i), set.contains(i), "contains " + i);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code count} integers whose home slot in a table of
+     * {@code mask + 1} slots is {@code home}. Mirrors CustomHashSet's hash.
+     */
+    private static List<Integer> keysWithHome(int home, int mask, int count) {
+        List<Integer> keys = new ArrayList<>();
+
+        for (int k = 0; keys.size() < count; k++) {
+            int h = k * 0x9E3779B9;
+
+            if (((h ^ (h >>> 16)) & mask) == home) {
+                keys.add(k);
+            }
+        }
+
+        return keys;
+    }
+
+    private static Set<Integer> iterated(Collection<Integer> c) {
+        Set<Integer> values = new HashSet<>();
+
+        for (Integer value : c) {
+            Check.check(values.add(value), "element " + value + " returned twice");
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomIndexedSkipList}, checked against {@link ArrayList}.
+ * A wrong width in the index levels makes positional access return the
+ * wrong element, so every operation is compared position by position.
+ */
+public class CustomIndexedSkipListTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomIndexedSkipListTest passed");
+    }
+
+    static void run() {
+        matchesArrayListUnderRandomOperations();
+        removeAfterPrevious();
+        subListAtTheEnds();
+    }
+
+    private static void matchesArrayListUnderRandomOperations() {
+        ListCheck.matchesArrayList(CustomIndexedSkipList::new, 1, 30_000, 600);
+
+        // Built from a collection by build() rather than by inserts.
+        List<Integer> initial = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            initial.add(i);
+        }
+        ListCheck.matchesArrayList(() -> new CustomIndexedSkipList<>(initial), 2, 10_000, 800);
+    }
+
+    private static void removeAfterPrevious() {
+        CustomIndexedSkipList<Integer> list = new CustomIndexedSkipList<>(Arrays.asList(0, 1, 2, 3, 4));
+        ListIterator<Integer> it = list.listIterator(5);
+
+        Check.equal(4, it.previous(), "previous from the end");
+        Check.equal(3, it.previous(), "second previous");
+        it.remove();
+        Check.equal(3, it.nextIndex(), "nextIndex after remove");
+        Check.equal(2, it.previousIndex(), "previousIndex after remove");
+        Check.equal(4, it.next(), "next after remove");
+        Check.expect(IllegalStateException.class, () -> {
+            it.remove();
+            it.remove();
+        }, "second remove");
+        ListCheck.same(Arrays.asList(0, 1, 2), list, "after removals: ");
+    }
+
+    private static void subListAtTheEnds() {
+        CustomIndexedSkipList<Integer> list = new CustomIndexedSkipList<>(Arrays.asList(0, 1, 2));
+
+        Check.equal(Collections.emptyList(), list.subList(3, 3), "empty subList at the end");
+        Check.equal(Arrays.asList(1, 2), list.subList(1, 3), "subList to the end");
+        Check.expect(IndexOutOfBoundsException.class, () -> list.subList(0, 4), "subList past the end");
+    }
+}
@@ -0,0 +1,94 @@
+package com.epam.collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Tests for {@link CustomJournaledQueue}.
+ */
+public class CustomJournaledQueueTest {
+    private static final CustomJournaledQueue.Codec<String> CODEC = new CustomJournaledQueue.Codec<String>() {
+        @Override
+        public byte[] encode(String o) {
+            return o.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomJournaledQueueTest passed");
+    }
+
+    static void run() {
+        try {
+            replaysTheLog();
+            deletesASegmentWithATornHeader();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void replaysTheLog() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+
+        try {
+            try (CustomJournaledQueue<String> queue = new CustomJournaledQueue<>(directory, CODEC)) {
+                queue.offer("a");
+                queue.offer("b");
+                queue.offer("c");
+                Check.equal("a", queue.poll(), "poll");
+            }
+
+            try (CustomJournaledQueue<String> queue = new CustomJournaledQueue<>(directory, CODEC)) {
+                Check.equal(Arrays.asList("b", "c"), Arrays.asList(queue.toArray()), "replayed elements");
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static void deletesASegmentWithATornHeader() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+
+        try {
+            try (CustomJournaledQueue<String> queue = new CustomJournaledQueue<>(directory, CODEC)) {
+                queue.offer("a");
+                queue.offer("b");
+            }
+
+            Path torn = directory.resolve(String.format("segment-%020d.log", 1_000_000));
+            Files.write(torn, new byte[] {0x4A, 0x52});
+
+            try (CustomJournaledQueue<String> queue = new CustomJournaledQueue<>(directory, CODEC)) {
+                Check.check(!Files.exists(torn), "torn segment is deleted");
+                Check.equal(Arrays.asList("a", "b"), Arrays.asList(queue.toArray()), "elements before the torn segment");
+                queue.offer("c");
+            }
+
+            try (CustomJournaledQueue<String> queue = new CustomJournaledQueue<>(directory, CODEC)) {
+                Check.equal(Arrays.asList("a", "b", "c"), Arrays.asList(queue.toArray()), "elements after reopening");
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,236 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link CustomLinkedBlockingQueue}.
+ */
+public class CustomLinkedBlockingQueueTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomLinkedBlockingQueueTest passed");
+    }
+
+    static void run() {
+        try {
+            capacityIsABound();
+            putBlocksUntilTakeMakesRoom();
+            takeBlocksUntilPutAddsAnElement();
+            drainToStopsAtMax();
+            offerAllInsertsWhatFits();
+            putAllWaitsForRoomBetweenParts();
+            timedOfferAllGivesUp();
+            everyElementIsTakenOnce();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void capacityIsABound() throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(3);
+
+        for (int i = 0; i < 3; i++) {
+            Check.check(queue.offer(i), "offer " + i);
+        }
+
+        Check.check(!queue.offer(3), "offer into a full queue");
+        Check.check(!queue.offer(3, 10, TimeUnit.MILLISECONDS), "timed offer into a full queue");
+        Check.expect(IllegalStateException.class, () -> queue.add(3), "add into a full queue");
+        Check.equal(0, queue.remainingCapacity(), "remaining capacity");
+        Check.equal(3, queue.size(), "size");
+        Check.equal(0, queue.poll(), "poll");
+        Check.equal(1, queue.remainingCapacity(), "remaining capacity after poll");
+        Check.expect(IllegalArgumentException.class, () -> new CustomLinkedBlockingQueue<>(0), "capacity 0");
+    }
+
+    private static void putBlocksUntilTakeMakesRoom() throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(1);
+        queue.put(0);
+
+        Thread producer = start(() -> queue.put(1));
+
+        awaitWaiting(producer, "put into a full queue");
+        Check.equal(1, queue.size(), "size while put waits");
+        Check.equal(0, queue.take(), "take");
+        join(producer);
+        Check.equal(1, queue.take(), "element of the woken put");
+    }
+
+    private static void takeBlocksUntilPutAddsAnElement() throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(2);
+        AtomicReference<Integer> taken = new AtomicReference<>();
+
+        Thread consumer = start(() -> taken.set(queue.take()));
+
+        awaitWaiting(consumer, "take from an empty queue");
+        queue.put(7);
+        join(consumer);
+        Check.equal(7, taken.get(), "element of the woken take");
+        Check.check(queue.isEmpty(), "queue is empty");
+        Check.equal(null, queue.poll(10, TimeUnit.MILLISECONDS), "timed poll from an empty queue");
+    }
+
+    private static void drainToStopsAtMax() throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(5);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            queue.put(i);
+        }
+
+        // A producer waiting on the full queue is woken by the drain.
+        Thread producer = start(() -> queue.put(5));
+
+        awaitWaiting(producer, "put into a full queue");
+        Check.equal(3, queue.drainTo(drained, 3), "drained with max 3");
+        Check.equal(Arrays.asList(0, 1, 2), drained, "drained elements");
+        join(producer);
+        Check.equal(0, queue.drainTo(drained, 0), "drain with max 0");
+        Check.equal(3, queue.drainTo(drained), "drain the rest");
+        Check.equal(Arrays.asList(0, 1, 2, 3, 4, 5), drained, "all elements in order");
+        Check.expect(IllegalArgumentException.class, () -> queue.drainTo(queue), "drain into itself");
+    }
+
+    private static void offerAllInsertsWhatFits() {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(4);
+
+        queue.offer(0);
+        Check.equal(3, queue.offerAll(Arrays.asList(1, 2, 3, 4, 5)), "inserted into 3 free slots");
+        Check.equal(0, queue.offerAll(Arrays.asList(6)), "inserted into a full queue");
+        Check.equal(0, queue.offerAll(Collections.emptyList()), "empty batch");
+        Check.equal(Arrays.asList(0, 1, 2, 3), Arrays.asList(queue.toArray()), "contents");
+        Check.expect(NullPointerException.class, () -> queue.offerAll(Arrays.asList(1, null)), "null element");
+    }
+
+    private static void putAllWaitsForRoomBetweenParts() throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(3);
+        List<Integer> batch = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            batch.add(i);
+        }
+
+        Thread producer = start(() -> queue.putAll(batch));
+        List<Integer> taken = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            taken.add(queue.take());
+            Check.check(queue.size() <= 3, "size within capacity");
+        }
+        join(producer);
+        Check.equal(batch, taken, "putAll delivers the batch in order");
+    }
+
+    private static void timedOfferAllGivesUp() throws InterruptedException {
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(3);
+
+        queue.put(0);
+        Check.equal(2, queue.offerAll(Arrays.asList(1, 2, 3), 10, TimeUnit.MILLISECONDS),
+                    "inserted before the timeout");
+        Check.equal(Arrays.asList(0, 1, 2), Arrays.asList(queue.toArray()), "contents");
+    }
+
+    private static void everyElementIsTakenOnce() throws InterruptedException {
+        int producers = 3;
+        int consumers = 3;
+        int items = 20_000;
+        int batch = 16;
+        CustomLinkedBlockingQueue<Integer> queue = new CustomLinkedBlockingQueue<>(64);
+        AtomicIntegerArray taken = new AtomicIntegerArray(producers * items);
+        CountDownLatch remaining = new CountDownLatch(producers * items);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * items;
+
+            // Even producers put one at a time, odd ones in batches.
+            threads.add(start(() -> {
+                List<Integer> part = new ArrayList<>();
+
+                for (int i = 0; i < items; i++) {
+                    if (base / items % 2 == 0) {
+                        queue.put(base + i);
+                        continue;
+                    }
+                    part.add(base + i);
+                    if (part.size() == batch || i == items - 1) {
+                        queue.putAll(part);
+                        part.clear();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            boolean draining = c % 2 == 1;
+
+            threads.add(start(() -> {
+                List<Integer> sink = new ArrayList<>();
+
+                while (remaining.getCount() > 0) {
+                    Integer value = queue.poll(10, TimeUnit.MILLISECONDS);
+
+                    if (value == null) {
+                        continue;
+                    }
+                    sink.add(value);
+                    if (draining) {
+                        queue.drainTo(sink, batch);
+                    }
+                    for (Integer v : sink) {
+                        taken.incrementAndGet(v);
+                        remaining.countDown();
+                    }
+                    sink.clear();
+                }
+            }));
+        }
+
+        Check.check(remaining.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "all elements taken in time");
+        for (Thread thread : threads) {
+            join(thread);
+        }
+        for (int i = 0; i < taken.length(); i++) {
+            Check.equal(1, taken.get(i), "times element " + i + " was taken");
+        }
+        Check.check(queue.isEmpty(), "queue is empty");
+    }
+
+    interface Action {
+        void run() throws InterruptedException;
+    }
+
+    private static Thread start(Action action) {
+        Thread thread = new Thread(() -> {
+            try {
+                action.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread, String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (thread.getState() != Thread.State.WAITING) {
+            Check.check(thread.isAlive(), message + ": thread finished instead of blocking");
+            Check.check(System.currentTimeMillis() < deadline, message + ": thread did not block");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void join(Thread thread) throws InterruptedException {
+        thread.join(TIMEOUT_MILLIS);
+        Check.check(!thread.isAlive(), "thread finished in time");
+    }
+}
@@ -0,0 +1,368 @@
+package com.epam.collections;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for {@link CustomLinkedList}.
+ */
+public class CustomLinkedListTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomLinkedListTest passed");
+    }
+
+    static void run() {
+        fingerIsResetByClear();
+        fingerIsResetWhenItsEntryIsRemoved();
+        fingerIsResetByStructuralChanges();
+        sortMatchesListSort();
+        sortKeepsTheListIntactWhenTheComparatorThrows();
+        removeObjectRemovesTheFirstOccurrence();
+        spliteratorSplitsCoverEveryElementOnceInOrder();
+        spliteratorBindsLateAndFailsFast();
+        parallelStreamMatchesSequential();
+        entryPoolRecyclesClearedEntries();
+        iteratorOverAnEmptyList();
+    }
+
+    private static void fingerIsResetByClear() {
+        CustomLinkedList<Integer> list = listOf(0, 100);
+
+        Check.equal(40, list.get(40), "get before clear");
+        list.clear();
+        Check.check(finger(list) == null, "clear keeps the finger");
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i + 1000);
+        }
+
+        Check.equal(1040, list.get(40), "get after clear and add");
+        Check.equal(1041, list.get(41), "get next to the finger");
+    }
+
+    private static void fingerIsResetWhenItsEntryIsRemoved() {
+        CustomLinkedList<Integer> list = listOf(0, 10);
+
+        list.get(9);
+        list.removeLast();
+        Check.check(finger(list) == null, "removeLast keeps the removed finger");
+
+        list.get(0);
+        list.removeFirst();
+        Check.check(finger(list) == null, "removeFirst keeps the removed finger");
+
+        list.get(4);
+        list.remove(Integer.valueOf(5));
+        Check.check(finger(list) == null, "remove(Object) keeps the removed finger");
+        Check.equal(6, list.get(4), "get after removing the finger");
+    }
+
+    private static void fingerIsResetByStructuralChanges() {
+        CustomLinkedList<Integer> list = listOf(0, 20);
+        CustomLinkedList<Integer> other = listOf(100, 10);
+
+        list.get(10);
+        other.get(5);
+        list.spliceAt(5, other);
+        Check.check(finger(list) == null, "spliceAt keeps the finger");
+        Check.check(finger(other) == null, "spliceAt keeps the finger of the emptied list");
+        Check.equal(100, list.get(5), "get after splice");
+
+        list.get(20);
+        CustomLinkedList<Integer> tail = list.splitAt(15);
+        Check.check(finger(list) == null, "splitAt keeps the finger");
+        Check.equal(109, list.get(14), "get after split");
+        Check.equal(5, tail.get(0), "get from the split-off tail");
+
+        list.get(3);
+        list.sort(null);
+        Check.check(finger(list) == null, "sort keeps the finger");
+        Check.equal(3, list.get(3), "get after sort");
+    }
+
+    private static void sortMatchesListSort() {
+        Random random = new Random(7);
+
+        for (int size = 1; size < 200; size += 7) {
+            CustomLinkedList<Integer> list = new CustomLinkedList<>();
+            List<Integer> expected = new ArrayList<>();
+
+            for (int i = 0; i < size; i++) {
+                Integer value = random.nextInt(20);
+                list.add(value);
+                expected.add(value);
+            }
+
+            list.sort(null);
+            expected.sort(null);
+            Check.equal(expected, Arrays.asList(list.toArray()), "sort of " + size + " elements");
+            checkLinks(list);
+        }
+    }
+
+    private static void sortKeepsTheListIntactWhenTheComparatorThrows() {
+        Random random = new Random(11);
+
+        for (int failAfter = 0; failAfter < 600; failAfter += 13) {
+            CustomLinkedList<Integer> list = new CustomLinkedList<>();
+            List<Integer> values = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                Integer value = random.nextInt(1000);
+                list.add(value);
+                values.add(value);
+            }
+
+            int[] compares = {0};
+            int limit = failAfter;
+            Comparator<Integer> failing = (x, y) -> {
+                if (compares[0]++ == limit) {
+                    throw new IllegalStateException("comparator failure");
+                }
+                return x.compareTo(y);
+            };
+
+            try {
+                list.sort(failing);
+            } catch (IllegalStateException e) {
+                // expected for the smaller limits
+            }
+
+            Check.equal(100, list.size(), "size after failing sort");
+            checkLinks(list);
+
+            List<Integer> actual = new ArrayList<>(Arrays.asList(list.toArray(new Integer[0])));
+            Collections.sort(actual);
+            Collections.sort(values);
+            Check.equal(values, actual, "elements after failing sort");
+
+            list.sort(null);
+            Check.equal(values, Arrays.asList(list.toArray(new Integer[0])), "sort after failing sort");
+        }
+    }
+
+    private static void removeObjectRemovesTheFirstOccurrence() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>(Arrays.asList(1, 2, 3, 2, 1));
+
+        Check.check(list.remove(Integer.valueOf(2)), "remove a present element");
+        Check.equal(Arrays.asList(1, 3, 2, 1), Arrays.asList(list.toArray()), "remove takes the first occurrence");
+        Check.check(list.remove(Integer.valueOf(1)), "remove the first element");
+        Check.equal(Arrays.asList(3, 2, 1), Arrays.asList(list.toArray()), "after removing the first element");
+        Check.check(!list.remove(Integer.valueOf(5)), "remove a missing element");
+        Check.equal(3, list.size(), "size after removals");
+    }
+
+    /**
+     * Checks that walking forwards and backwards visits size() entries in
+     * matching order.
+     */
+    private static void checkLinks(CustomLinkedList<Integer> list) {
+        List<Integer> forward = new ArrayList<>();
+        ListIterator<Integer> iterator = list.iterator();
+
+        while (iterator.hasNext()) {
+            forward.add(iterator.next());
+        }
+
+        Check.equal(list.size(), forward.size(), "forward iteration length");
+
+        List<Integer> backward = new ArrayList<>();
+
+        while (iterator.hasPrevious()) {
+            backward.add(iterator.previous());
+        }
+
+        Collections.reverse(backward);
+        Check.equal(forward, backward, "backward iteration");
+    }
+
+    private static void spliteratorSplitsCoverEveryElementOnceInOrder() {
+        for (int size : new int[]{0, 1, 2, 1_023, 1_024, 1_025, 5_000, 100_000}) {
+            CustomLinkedList<Integer> list = listOf(0, size);
+            Spliterator<Integer> rest = list.spliterator();
+            List<Spliterator<Integer>> parts = new ArrayList<>();
+            String at = "size " + size;
+
+            Check.check(rest.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED),
+                        at + ": characteristics");
+            Check.equal((long) size, rest.estimateSize(), at + ": estimateSize");
+            Check.equal((long) size, rest.getExactSizeIfKnown(), at + ": exact size");
+
+            // Take the first element on its own, then split the rest in growing batches.
+            List<Integer> seen = new ArrayList<>();
+            if (rest.tryAdvance(seen::add)) {
+                Check.equal((long) size - 1, rest.estimateSize(), at + ": estimateSize after tryAdvance");
+            }
+
+            long covered = seen.size();
+            for (Spliterator<Integer> prefix; (prefix = rest.trySplit()) != null; ) {
+                Check.check(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED),
+                            at + ": prefix characteristics");
+                covered += prefix.estimateSize();
+                Check.equal((long) size, covered + rest.estimateSize(), at + ": sizes after a split");
+                parts.add(prefix);
+            }
+            Check.check(rest.estimateSize() <= 1, at + ": unsplittable rest");
+            parts.add(rest);
+
+            for (Spliterator<Integer> part : parts) {
+                // Split each batch once more, as a parallel stream would.
+                Spliterator<Integer> half = part.trySplit();
+                if (half != null) {
+                    half.forEachRemaining(seen::add);
+                }
+                part.forEachRemaining(seen::add);
+                Check.check(!part.tryAdvance(seen::add), at + ": exhausted");
+            }
+
+            Check.equal(Arrays.asList(list.toArray()), seen, at + ": every element once, in order");
+        }
+    }
+
+    private static void spliteratorBindsLateAndFailsFast() {
+        CustomLinkedList<Integer> list = listOf(0, 10);
+        Spliterator<Integer> late = list.spliterator();
+
+        list.add(10);
+        Check.equal(11L, late.estimateSize(), "bound on first use");
+        list.add(11);
+        Check.expect(ConcurrentModificationException.class, () -> late.forEachRemaining(o -> {}),
+                     "modified after binding");
+
+        Spliterator<Integer> advancing = list.spliterator();
+        Check.expect(ConcurrentModificationException.class, () -> advancing.tryAdvance(o -> list.add(o)),
+                     "modified by the action");
+    }
+
+    private static void parallelStreamMatchesSequential() {
+        CustomLinkedList<Integer> list = listOf(-100_000, 200_001);
+
+        long sequential = list.stream().mapToLong(Integer::longValue).sum();
+        Check.equal(0L, sequential, "sequential sum");
+        Check.equal(sequential, list.stream().parallel().mapToLong(Integer::longValue).sum(), "parallel sum");
+        Check.equal(200_001L, list.stream().parallel().count(), "parallel count");
+        Check.equal(Arrays.asList(list.toArray()),
+                    list.stream().parallel().collect(Collectors.toList()), "parallel order");
+    }
+
+    private static void entryPoolRecyclesClearedEntries() {
+        Random random = new Random(1);
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        Deque<Integer> expected = new ArrayDeque<>();
+        int capacity = 8;
+
+        list.setEntryPoolCapacity(capacity);
+        for (int step = 0; step < 20_000; step++) {
+            String at = "step " + step;
+            Integer value = random.nextInt(100);
+
+            switch (random.nextInt(10)) {
+                case 0:
+                case 1:
+                case 2:
+                    Check.equal(expected.offer(value), list.offer(value), at + ": offer");
+                    break;
+                case 3:
+                    list.addFirst(value);
+                    expected.addFirst(value);
+                    break;
+                case 4:
+                case 5:
+                    Check.equal(expected.poll(), list.poll(), at + ": poll");
+                    break;
+                case 6:
+                    if (!expected.isEmpty()) {
+                        Check.equal(expected.removeLast(), list.removeLast(), at + ": removeLast");
+                    }
+                    break;
+                case 7:
+                    Check.equal(expected.remove(value), list.remove(value), at + ": remove " + value);
+                    break;
+                case 8: {
+                    Iterator<Integer> it = list.iterator();
+                    Iterator<Integer> expectedIt = expected.iterator();
+                    while (expectedIt.hasNext()) {
+                        Check.equal(expectedIt.next(), it.next(), at + ": iteration");
+                        if (random.nextInt(4) == 0) {
+                            it.remove();
+                            expectedIt.remove();
+                        }
+                    }
+                    break;
+                }
+                default:
+                    if (random.nextInt(50) == 0) {
+                        list.clear();
+                        expected.clear();
+                    } else if (random.nextInt(50) == 0) {
+                        capacity = random.nextInt(16);
+                        list.setEntryPoolCapacity(capacity);
+                    }
+                    break;
+            }
+
+            Check.equal(expected.size(), list.size(), at + ": size");
+            Check.equal(Arrays.asList(expected.toArray()), Arrays.asList(list.toArray()), at + ": contents");
+            checkPool(list, capacity, at);
+        }
+    }
+
+    private static void iteratorOverAnEmptyList() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        ListIterator<Integer> iterator = list.iterator();
+
+        Check.check(!iterator.hasNext() && !iterator.hasPrevious(), "empty iterator");
+        iterator.add(1);
+        Check.equal(Arrays.asList(1), Arrays.asList(list.toArray()), "add through an empty iterator");
+        checkLinks(list);
+    }
+
+    /**
+     * Checks that the pool holds at most {@code capacity} cleared entries,
+     * none of which is still linked into the list.
+     */
+    private static void checkPool(CustomLinkedList<Integer> list, int capacity, String at) {
+        Set<Object> linked = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object e = field(list, "first"); e != null; e = field(e, "next")) {
+            linked.add(e);
+        }
+
+        int pooled = 0;
+        for (Object e = field(list, "pool"); e != null; e = field(e, "next")) {
+            Check.equal(null, field(e, "data"), at + ": pooled entry data");
+            Check.equal(null, field(e, "previous"), at + ": pooled entry previous");
+            Check.check(!linked.contains(e), at + ": pooled entry still linked");
+            pooled++;
+        }
+
+        Check.equal(pooled, field(list, "poolSize"), at + ": poolSize");
+        Check.check(pooled <= capacity, at + ": " + pooled + " pooled entries over capacity " + capacity);
+    }
+
+    private static CustomLinkedList<Integer> listOf(int from, int count) {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+
+        for (int i = 0; i < count; i++) {
+            list.add(from + i);
+        }
+
+        return list;
+    }
+
+    private static Object finger(CustomLinkedList<?> list) {
+        return field(list, "finger");
+    }
+
+    private static Object field(Object o, String name) {
+        try {
+            Field field = o.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+
+            return field.get(o);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomPairingHeap}, checked against {@link PriorityQueue},
+ * including the handle operations.
+ */
+public class CustomPairingHeapTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomPairingHeapTest passed");
+    }
+
+    static void run() {
+        matchesPriorityQueueUnderRandomOperations();
+        removeRootAndNonRootHandles();
+        decreaseKey();
+        clearDetachesHandles();
+    }
+
+    private static void matchesPriorityQueueUnderRandomOperations() {
+        Random random = new Random(1);
+        CustomPairingHeap<Integer> heap = new CustomPairingHeap<>();
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        List<CustomPairingHeap.Handle<Integer>> handles = new ArrayList<>();
+
+        for (int step = 0; step < 30_000; step++) {
+            String at = "step " + step;
+            handles.removeIf(h -> !h.isLinked());
+            CustomPairingHeap.Handle<Integer> handle =
+                    handles.isEmpty() ? null : handles.get(random.nextInt(handles.size()));
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1: {
+                    Integer value = random.nextInt(1_000);
+                    expected.offer(value);
+                    handles.add(heap.insert(value));
+                    break;
+                }
+                case 2:
+                    Check.equal(expected.poll(), heap.poll(), at + ": poll");
+                    break;
+                case 3:
+                    if (handle != null) {
+                        Integer value = handle.getValue();
+                        Check.check(expected.remove(value), at + ": " + value + " in the reference");
+                        Check.equal(value, heap.remove(handle), at + ": remove(Handle)");
+                        Check.check(!handle.isLinked(), at + ": removed handle unlinked");
+                    }
+                    break;
+                case 4:
+                    if (handle != null) {
+                        Integer value = handle.getValue();
+                        Integer smaller = value - random.nextInt(100);
+                        expected.remove(value);
+                        expected.add(smaller);
+                        heap.decreaseKey(handle, smaller);
+                        Check.equal(smaller, handle.getValue(), at + ": decreased value");
+                    }
+                    break;
+                default: {
+                    Integer value = random.nextInt(1_000);
+                    Check.equal(expected.remove(value), heap.remove(value), at + ": remove " + value);
+                    break;
+                }
+            }
+
+            Check.equal(expected.size(), heap.size(), at + ": size");
+            Check.equal(expected.peek(), heap.peek(), at + ": peek");
+        }
+
+        drainsLike(expected, heap, "end");
+    }
+
+    private static void removeRootAndNonRootHandles() {
+        CustomPairingHeap<Integer> heap = new CustomPairingHeap<>();
+        List<CustomPairingHeap.Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            handles.add(heap.insert(i));
+        }
+        // Polling pairs the children, so the tree is no longer a single chain.
+        Check.equal(0, heap.poll(), "poll");
+        Check.check(!handles.get(0).isLinked(), "polled handle unlinked");
+
+        Check.equal(1, heap.remove(handles.get(1)), "remove root");
+        Check.equal(2, heap.peek(), "new root");
+        Check.equal(7, heap.remove(handles.get(7)), "remove a leaf or inner node");
+        Check.equal(5, heap.remove(handles.get(5)), "remove another node");
+        Check.expect(IllegalArgumentException.class, () -> heap.remove(handles.get(5)), "remove twice");
+        Check.expect(IllegalArgumentException.class, () -> heap.remove(handles.get(0)), "remove polled");
+        Check.expect(IllegalArgumentException.class,
+                     () -> heap.remove(new CustomPairingHeap<Integer>().insert(3)), "remove foreign handle");
+
+        drainsLike(new PriorityQueue<>(Arrays.asList(2, 3, 4, 6, 8, 9)), heap, "after handle removals");
+    }
+
+    private static void decreaseKey() {
+        CustomPairingHeap<Integer> heap = new CustomPairingHeap<>();
+        List<CustomPairingHeap.Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 10; i < 20; i++) {
+            handles.add(heap.insert(i));
+        }
+        heap.poll();
+
+        heap.decreaseKey(handles.get(9), 5);
+        Check.equal(5, heap.peek(), "decreased node becomes the root");
+        heap.decreaseKey(handles.get(9), 4);
+        Check.equal(4, heap.peek(), "root decreased in place");
+        heap.decreaseKey(handles.get(5), 15);
+        Check.equal(4, heap.peek(), "unchanged value");
+        Check.expect(IllegalArgumentException.class, () -> heap.decreaseKey(handles.get(3), 20),
+                     "increase");
+        Check.expect(IllegalArgumentException.class, () -> heap.decreaseKey(handles.get(0), 1),
+                     "decrease a polled handle");
+
+        drainsLike(new PriorityQueue<>(Arrays.asList(4, 11, 12, 13, 14, 15, 16, 17, 18)), heap,
+                   "after decreaseKey");
+    }
+
+    private static void clearDetachesHandles() {
+        CustomPairingHeap<Integer> heap = new CustomPairingHeap<>();
+        List<CustomPairingHeap.Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            handles.add(heap.insert(i));
+        }
+        heap.poll();
+        heap.clear();
+
+        Check.equal(0, heap.size(), "size after clear");
+        Check.equal(null, heap.peek(), "peek after clear");
+        for (CustomPairingHeap.Handle<Integer> handle : handles) {
+            Check.check(!handle.isLinked(), "handle " + handle + " unlinked by clear");
+        }
+        Check.expect(IllegalArgumentException.class, () -> heap.remove(handles.get(5)), "remove cleared");
+        Check.expect(IllegalArgumentException.class, () -> heap.decreaseKey(handles.get(5), 0),
+                     "decrease cleared");
+
+        CustomPairingHeap.Handle<Integer> handle = heap.insert(7);
+        heap.insert(3);
+        heap.decreaseKey(handle, 1);
+        drainsLike(new PriorityQueue<>(Arrays.asList(1, 3)), heap, "reused after clear");
+    }
+
+    private static void drainsLike(PriorityQueue<Integer> expected, CustomPairingHeap<Integer> heap, String at) {
+        Check.equal(expected.size(), heap.size(), at + ": size before draining");
+        while (!expected.isEmpty()) {
+            Check.equal(expected.poll(), heap.poll(), at + ": drain");
+        }
+        Check.equal(null, heap.poll(), at + ": drained");
+    }
+}
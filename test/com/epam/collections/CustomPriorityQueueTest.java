@@ -0,0 +1,158 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomPriorityQueue}, checked against
+ * {@link PriorityQueue} at several arities.
+ */
+public class CustomPriorityQueueTest {
+    private static final int[] ARITIES = {2, 3, 4, 8};
+
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomPriorityQueueTest passed");
+    }
+
+    static void run() {
+        for (int arity : ARITIES) {
+            matchesPriorityQueueUnderRandomOperations(arity);
+            heapifyOrdersEveryElement(arity);
+            iteratorRemoveVisitsEveryElementOnce(arity);
+        }
+        iteratorReturnsElementSiftedUpByRemove();
+    }
+
+    private static void matchesPriorityQueueUnderRandomOperations(int arity) {
+        Random random = new Random(arity);
+        CustomPriorityQueue<Integer> queue = new CustomPriorityQueue<>(arity, null);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+
+        for (int step = 0; step < 30_000; step++) {
+            String at = "arity " + arity + ", step " + step;
+            Integer value = random.nextInt(200);
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    Check.equal(expected.offer(value), queue.offer(value), at + ": offer");
+                    break;
+                case 2:
+                    Check.equal(expected.poll(), queue.poll(), at + ": poll");
+                    break;
+                case 3:
+                    Check.equal(expected.remove(value), queue.remove(value), at + ": remove " + value);
+                    break;
+                case 4:
+                    Check.equal(expected.contains(value), queue.contains(value), at + ": contains " + value);
+                    break;
+                default:
+                    if (random.nextInt(50) == 0) {
+                        // Smaller than the queue is offered one by one, larger is heapified.
+                        List<Integer> batch = new ArrayList<>();
+                        int count = random.nextBoolean() || expected.size() > 500 ? 1 + random.nextInt(3) : expected.size() + 1;
+                        for (int i = 0; i < count; i++) {
+                            batch.add(random.nextInt(200));
+                        }
+                        Check.equal(expected.addAll(batch), queue.addAll(batch), at + ": addAll");
+                    }
+                    break;
+            }
+
+            Check.equal(expected.size(), queue.size(), at + ": size");
+            Check.equal(expected.peek(), queue.peek(), at + ": peek");
+        }
+
+        drainsLike(expected, queue, "arity " + arity);
+    }
+
+    private static void heapifyOrdersEveryElement(int arity) {
+        Random random = new Random(-arity);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(random.nextInt(300));
+        }
+
+        CustomPriorityQueue<Integer> queue = new CustomPriorityQueue<>(arity, null);
+        queue.addAll(values);
+        drainsLike(new PriorityQueue<>(values), queue, "heapify, arity " + arity);
+
+        queue.addAll(values);
+        List<Integer> odd = new ArrayList<>();
+        for (int i = 1; i < 300; i += 2) {
+            odd.add(i);
+        }
+        queue.removeAll(odd);
+        PriorityQueue<Integer> expected = new PriorityQueue<>(values);
+        expected.removeAll(odd);
+        drainsLike(expected, queue, "removeAll, arity " + arity);
+    }
+
+    private static void iteratorRemoveVisitsEveryElementOnce(int arity) {
+        Random random = new Random(100 + arity);
+
+        for (int round = 0; round < 200; round++) {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0, n = random.nextInt(60); i < n; i++) {
+                values.add(random.nextInt(1_000));
+            }
+
+            CustomPriorityQueue<Integer> queue = new CustomPriorityQueue<>(arity, null);
+            for (Integer value : values) {
+                queue.offer(value);
+            }
+            PriorityQueue<Integer> remaining = new PriorityQueue<>();
+            List<Integer> visited = new ArrayList<>();
+
+            for (Iterator<Integer> it = queue.iterator(); it.hasNext(); ) {
+                Integer value = it.next();
+                visited.add(value);
+                if (random.nextInt(3) == 0) {
+                    it.remove();
+                } else {
+                    remaining.add(value);
+                }
+            }
+
+            Collections.sort(values);
+            Collections.sort(visited);
+            String at = "arity " + arity + ", round " + round;
+            Check.equal(values, visited, at + ": every element visited once");
+            drainsLike(remaining, queue, at);
+        }
+    }
+
+    /**
+     * Removing 11 moves the last element, 3, up past the iterator cursor, so
+     * the iterator has to return it at the end.
+     */
+    private static void iteratorReturnsElementSiftedUpByRemove() {
+        CustomPriorityQueue<Integer> queue = new CustomPriorityQueue<>(2, null);
+        for (int value : new int[]{0, 10, 1, 11, 12, 2, 3}) {
+            queue.offer(value);
+        }
+        Check.equal(Arrays.asList(0, 10, 1, 11, 12, 2, 3), Arrays.asList(queue.toArray()), "heap layout");
+
+        List<Integer> visited = new ArrayList<>();
+        Iterator<Integer> it = queue.iterator();
+        while (it.hasNext()) {
+            Integer value = it.next();
+            visited.add(value);
+            if (value == 11 || value == 3) {
+                it.remove();
+            }
+        }
+
+        Check.equal(Arrays.asList(0, 10, 1, 11, 12, 2, 3), visited, "visit order");
+        Check.expect(IllegalStateException.class, it::remove, "remove twice");
+        drainsLike(new PriorityQueue<>(Arrays.asList(0, 1, 2, 10, 12)), queue, "after removals");
+    }
+
+    private static void drainsLike(PriorityQueue<Integer> expected, CustomPriorityQueue<Integer> queue, String at) {
+        Check.equal(expected.size(), queue.size(), at + ": size before draining");
+        while (!expected.isEmpty()) {
+            Check.equal(expected.poll(), queue.poll(), at + ": drain");
+        }
+        Check.equal(null, queue.poll(), at + ": drained");
+    }
+}
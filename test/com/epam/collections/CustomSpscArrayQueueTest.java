@@ -0,0 +1,70 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomSpscArrayQueue}.
+ */
+public class CustomSpscArrayQueueTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomSpscArrayQueueTest passed");
+    }
+
+    static void run() {
+        drainRejectsNegativeLimit();
+        drainStopsAtLimit();
+        drainKeepsUnconsumedElementsWhenTheConsumerThrows();
+    }
+
+    private static void drainRejectsNegativeLimit() {
+        CustomSpscArrayQueue<Integer> queue = queueOf(5);
+
+        Check.expect(IllegalArgumentException.class, () -> queue.drain(x -> {}, -1), "drain with limit -1");
+        Check.equal(5, queue.size(), "size after rejected drain");
+        Check.equal(0, queue.drain(x -> {}, 0), "drain with limit 0");
+    }
+
+    private static void drainStopsAtLimit() {
+        CustomSpscArrayQueue<Integer> queue = queueOf(5);
+        List<Integer> drained = new ArrayList<>();
+
+        Check.equal(3, queue.drain(drained::add, 3), "drain count");
+        Check.equal(Arrays.asList(0, 1, 2), drained, "drained elements");
+        Check.equal(2, queue.drain(drained::add, 10), "drain count past the end");
+        Check.check(queue.isEmpty(), "queue is empty");
+    }
+
+    private static void drainKeepsUnconsumedElementsWhenTheConsumerThrows() {
+        CustomSpscArrayQueue<Integer> queue = queueOf(6);
+        List<Integer> drained = new ArrayList<>();
+
+        Check.expect(IllegalStateException.class, () -> queue.drain(x -> {
+            drained.add(x);
+            if (x == 2) {
+                throw new IllegalStateException();
+            }
+        }, 10), "drain with a failing consumer");
+
+        Check.equal(Arrays.asList(0, 1, 2), drained, "elements handed to the consumer");
+        Check.equal(3, queue.size(), "size after the failed drain");
+        Check.equal(3, queue.peek(), "head after the failed drain");
+        Check.equal(Arrays.asList(3, 4, 5), Arrays.asList(queue.toArray()), "remaining elements");
+
+        for (int i = 6; i < 9; i++) {
+            Check.check(queue.offer(i), "offer into the freed slots");
+        }
+        Check.equal(6, queue.drain(drained::add, 10), "drain after the failed drain");
+        Check.equal(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8), drained, "all elements in order");
+    }
+
+    private static CustomSpscArrayQueue<Integer> queueOf(int count) {
+        CustomSpscArrayQueue<Integer> queue = new CustomSpscArrayQueue<>(count);
+
+        for (int i = 0; i < count; i++) {
+            queue.offer(i);
+        }
+
+        return queue;
+    }
+}
@@ -0,0 +1,65 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomTieredList}, checked against {@link ArrayList}.
+ * Chunks start at 16 slots and are re-laid out as the list grows, so the
+ * sizes used here cross several chunk sizes.
+ */
+public class CustomTieredListTest {
+    private static final int CHUNK = 16;
+
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomTieredListTest passed");
+    }
+
+    static void run() {
+        matchesArrayListUnderRandomOperations();
+        insertAndRemoveAtChunkBoundaries();
+    }
+
+    private static void matchesArrayListUnderRandomOperations() {
+        ListCheck.matchesArrayList(CustomTieredList::new, 1, 40_000, 1_200);
+        ListCheck.matchesArrayList(CustomTieredList::new, 2, 20_000, 3 * CHUNK);
+
+        List<Integer> initial = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            initial.add(i);
+        }
+        ListCheck.matchesArrayList(() -> new CustomTieredList<>(initial), 3, 10_000, 700);
+    }
+
+    /**
+     * Inserts and removes at every index next to a chunk boundary, where an
+     * element moves from the end of one chunk to the head of the next.
+     */
+    private static void insertAndRemoveAtChunkBoundaries() {
+        for (int size = 4 * CHUNK - 1; size <= 4 * CHUNK + 1; size++) {
+            for (int boundary = 0; boundary <= size; boundary += CHUNK) {
+                for (int index = Math.max(0, boundary - 1); index <= Math.min(size, boundary + 1); index++) {
+                    List<Integer> expected = new ArrayList<>();
+                    for (int i = 0; i < size; i++) {
+                        expected.add(i);
+                    }
+                    CustomTieredList<Integer> list = new CustomTieredList<>();
+                    list.addAll(expected);
+                    String at = "size " + size + ", index " + index + ": ";
+
+                    list.add(index, -1);
+                    expected.add(index, -1);
+                    ListCheck.same(expected, list, at + "after add: ");
+
+                    Check.equal(expected.remove(index), list.remove(index), at + "remove");
+                    ListCheck.same(expected, list, at + "after remove: ");
+
+                    if (index < size) {
+                        Check.equal(expected.remove(index), list.remove(index), at + "remove original");
+                        ListCheck.same(expected, list, at + "after removing an original: ");
+                    }
+                }
+            }
+        }
+    }
+}
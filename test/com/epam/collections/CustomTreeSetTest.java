@@ -0,0 +1,93 @@
+package com.epam.collections;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * Tests for {@link CustomTreeSet}.
+ */
+public class CustomTreeSetTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomTreeSetTest passed");
+    }
+
+    static void run() {
+        bulkCopiesHandleADegenerateTree();
+        bulkRemovalOfTheLastElement();
+        onlyLargeBatchesRebuildTheTree();
+    }
+
+    private static void onlyLargeBatchesRebuildTheTree() {
+        CustomTreeSet<Integer> set = new CustomTreeSet<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 1_000; i += 2) {
+            set.add(i);
+            expected.add(i);
+        }
+        set.addAll(new ArrayList<>(expected));
+
+        CustomTreeSet<Integer> few = new CustomTreeSet<>(Arrays.asList(1, 3, 5));
+        Object root = root(set);
+        Check.check(set.addAll(few), "addAll of a small tree");
+        Check.check(root(set) == root, "small tree source inserted without a rebuild");
+
+        CustomTreeSet<Integer> many = new CustomTreeSet<>();
+        for (int i = 7; i < 1_000; i += 3) {
+            many.add(i);
+        }
+        Check.check(set.addAll(many), "addAll of a large tree");
+        Check.check(root(set) != root, "large tree source merged by a rebuild");
+
+        expected.addAll(few);
+        expected.addAll(many);
+        Check.equal(new ArrayList<>(expected), Arrays.asList(set.toArray()), "contents");
+    }
+
+    private static Object root(CustomTreeSet<?> set) {
+        try {
+            Field field = CustomTreeSet.class.getDeclaredField("root");
+            field.setAccessible(true);
+
+            return field.get(set);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void bulkRemovalOfTheLastElement() {
+        CustomTreeSet<Integer> set = new CustomTreeSet<>(Arrays.asList(1, 2, 3));
+
+        Check.check(set.removeAll(Collections.singleton(3)), "removeAll of the maximum");
+        Check.equal(Arrays.asList(1, 2), Arrays.asList(set.toArray()), "after removeAll");
+        Check.check(set.retainAll(Collections.singleton(1)), "retainAll dropping the maximum");
+        Check.equal(Arrays.asList(1), Arrays.asList(set.toArray()), "after retainAll");
+        Check.check(!set.removeAll(Collections.singleton(5)), "removeAll without a match");
+        Check.check(!set.retainAll(Collections.singleton(1)), "retainAll keeping everything");
+    }
+
+    // Sorted inserts turn the unbalanced tree into a 50,000-deep chain.
+    private static void bulkCopiesHandleADegenerateTree() {
+        int size = 50_000;
+        CustomTreeSet<Integer> set = new CustomTreeSet<>();
+        List<Integer> more = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            set.add(i);
+            more.add(size + i);
+        }
+
+        Check.equal(size, set.toArray().length, "toArray");
+        Check.equal(size, new CustomArrayList<>(set).size(), "copy into CustomArrayList");
+
+        set.addAll(more);
+
+        Check.equal(2 * size, set.size(), "addAll");
+
+        int expected = 0;
+
+        for (Integer value : set) {
+            Check.equal(expected++, value, "iteration order");
+        }
+    }
+}
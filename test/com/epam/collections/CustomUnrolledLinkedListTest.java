@@ -0,0 +1,49 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link CustomUnrolledLinkedList}, checked against {@link LinkedList}.
+ */
+public class CustomUnrolledLinkedListTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomUnrolledLinkedListTest passed");
+    }
+
+    static void run() {
+        iteratorRemoveMatchesLinkedList();
+    }
+
+    // Small nodes make removals empty, unlink and merge nodes often.
+    private static void iteratorRemoveMatchesLinkedList() {
+        Random random = new Random(1);
+
+        for (int round = 0; round < 200; round++) {
+            CustomUnrolledLinkedList<Integer> list = new CustomUnrolledLinkedList<>(8);
+            LinkedList<Integer> expected = new LinkedList<>();
+            int size = random.nextInt(300);
+
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+                expected.add(i);
+            }
+
+            Iterator<Integer> it = list.iterator();
+            Iterator<Integer> expectedIt = expected.iterator();
+
+            while (expectedIt.hasNext()) {
+                Check.check(it.hasNext(), "hasNext");
+                Check.equal(expectedIt.next(), it.next(), "next");
+                if (random.nextInt(3) != 0) {
+                    it.remove();
+                    expectedIt.remove();
+                }
+            }
+
+            Check.check(!it.hasNext(), "iterator exhausted");
+            Check.equal(expected.size(), list.size(), "size");
+            Check.equal(expected, Arrays.asList(list.toArray()), "contents");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.epam.collections;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tests for {@link CustomWorkStealingDeque}.
+ */
+public class CustomWorkStealingDequeTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("CustomWorkStealingDequeTest passed");
+    }
+
+    static void run() {
+        stolenSlotsAreClearedByTheOwner();
+        try {
+            everyElementIsTakenOnceUnderContention();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void stolenSlotsAreClearedByTheOwner() {
+        CustomWorkStealingDeque<Integer> deque = new CustomWorkStealingDeque<>(8);
+
+        for (int i = 0; i < 6; i++) {
+            deque.push(i);
+        }
+
+        Check.equal(0, deque.steal(), "first steal");
+        Check.equal(1, deque.steal(), "second steal");
+
+        deque.push(6);
+        Check.equal(5, occupiedSlots(deque), "slots held after push");
+
+        Check.equal(2, deque.steal(), "third steal");
+        Check.equal(6, deque.pop(), "pop");
+        Check.equal(3, occupiedSlots(deque), "slots held after pop");
+
+        while (deque.steal() != null) {
+            // take the rest
+        }
+        Check.equal(null, deque.pop(), "pop from an empty deque");
+        Check.equal(0, occupiedSlots(deque), "slots held once empty");
+    }
+
+    private static void everyElementIsTakenOnceUnderContention() throws InterruptedException {
+        int count = 200_000;
+        int thieves = 3;
+        CustomWorkStealingDeque<Integer> deque = new CustomWorkStealingDeque<>(4);
+        AtomicIntegerArray taken = new AtomicIntegerArray(count);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread[] threads = new Thread[thieves];
+
+        for (int i = 0; i < thieves; i++) {
+            threads[i] = new Thread(() -> {
+                while (done.getCount() > 0 || !deque.isEmpty()) {
+                    Integer o = deque.steal();
+
+                    if (o != null) {
+                        taken.incrementAndGet(o);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        for (int i = 0; i < count; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                Integer o = deque.pop();
+
+                if (o != null) {
+                    taken.incrementAndGet(o);
+                }
+            }
+        }
+        done.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < count; i++) {
+            Check.equal(1, taken.get(i), "times element " + i + " was taken");
+        }
+    }
+
+    private static int occupiedSlots(CustomWorkStealingDeque<?> deque) {
+        try {
+            Field field = CustomWorkStealingDeque.class.getDeclaredField("array");
+            field.setAccessible(true);
+
+            AtomicReferenceArray<?> array = (AtomicReferenceArray<?>) field.get(deque);
+            int occupied = 0;
+
+            for (int i = 0; i < array.length(); i++) {
+                if (array.get(i) != null) {
+                    occupied++;
+                }
+            }
+
+            return occupied;
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.epam.collections;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Tests for the {@code footprint()} estimates and the capacity release
+ * policies. The field counts passed to {@link Footprint#object} are checked
+ * against the declared fields, so adding a field without updating
+ * footprint() fails here.
+ */
+public class FootprintTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("FootprintTest passed");
+    }
+
+    static void run() {
+        fieldCountsMatchTheDeclaredFields();
+        arrayListFollowsItsCapacity();
+        arrayListQuarterFullPolicy();
+        arrayListTrimIfIdle();
+        linkedListFollowsEntriesAndPool();
+        linkedListTrimIfIdle();
+        treeSetFollowsItsNodes();
+    }
+
+    private static void fieldCountsMatchTheDeclaredFields() {
+        Check.equal(shallow(CustomArrayList.class) + Footprint.referenceArray(0),
+                    new CustomArrayList<>(0).footprint(), "CustomArrayList");
+        Check.equal(shallow(CustomLinkedList.class), new CustomLinkedList<>().footprint(), "CustomLinkedList");
+        Check.equal(shallow(CustomTreeSet.class), new CustomTreeSet<Integer>().footprint(), "CustomTreeSet");
+
+        BloomFilter filter = new BloomFilter();
+        Check.equal(shallow(BloomFilter.class) + Footprint.longArray(((long[]) read(filter, "words")).length),
+                    filter.footprint(), "BloomFilter");
+
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        list.add(1);
+        Check.equal(shallow(CustomLinkedList.class) + shallow(nested(CustomLinkedList.class, "Entry")),
+                    list.footprint(), "CustomLinkedList entry");
+
+        CustomTreeSet<Integer> set = new CustomTreeSet<>();
+        set.add(1);
+        Check.equal(shallow(CustomTreeSet.class) + shallow(nested(CustomTreeSet.class, "Node")),
+                    set.footprint(), "CustomTreeSet node");
+    }
+
+    private static void arrayListFollowsItsCapacity() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        long base = shallow(CustomArrayList.class);
+
+        Check.equal(base + Footprint.referenceArray(10), list.footprint(), "default capacity");
+        list.ensureCapacity(1_000);
+        Check.equal(base + Footprint.referenceArray(1_000), list.footprint(), "after ensureCapacity");
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+        }
+        long full = list.footprint();
+        list.add(1_000);
+        Check.check(list.footprint() > full, "grows past the capacity");
+
+        for (int i = 0; i < 900; i++) {
+            list.remove(list.size() - 1);
+        }
+        Check.check(list.footprint() > full, "NEVER keeps the capacity");
+        list.trimToSize();
+        Check.equal(base + Footprint.referenceArray(101), list.footprint(), "after trimToSize");
+    }
+
+    private static void arrayListQuarterFullPolicy() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(1_000);
+        long base = shallow(CustomArrayList.class);
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+        }
+
+        list.setShrinkPolicy(CustomArrayList.ShrinkPolicy.QUARTER_FULL);
+        Check.equal(CustomArrayList.ShrinkPolicy.QUARTER_FULL, list.getShrinkPolicy(), "policy");
+        while (list.size() > 250) {
+            list.remove(0);
+        }
+        Check.equal(base + Footprint.referenceArray(1_000), list.footprint(), "a quarter full");
+
+        list.remove(0);
+        Check.equal(base + Footprint.referenceArray(2 * 249), list.footprint(), "shrunk to twice the size");
+        for (int i = 0; i < 100; i++) {
+            list.remove(list.size() - 1);
+            list.add(i);
+        }
+        Check.equal(base + Footprint.referenceArray(2 * 249), list.footprint(), "steady adds and removes");
+
+        list.clear();
+        Check.equal(base + Footprint.referenceArray(10), list.footprint(), "not below the default capacity");
+        Check.expect(NullPointerException.class, () -> list.setShrinkPolicy(null), "null policy");
+
+        // Switching the policy on shrinks a list that is already sparse.
+        CustomArrayList<Integer> sparse = new CustomArrayList<>(1_000);
+        sparse.add(1);
+        sparse.setShrinkPolicy(CustomArrayList.ShrinkPolicy.QUARTER_FULL);
+        Check.equal(base + Footprint.referenceArray(10), sparse.footprint(), "shrunk when enabled");
+        Check.equal(Arrays.asList(1), sparse, "contents kept");
+    }
+
+    private static void arrayListTrimIfIdle() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(100);
+        long base = shallow(CustomArrayList.class);
+        list.add(1);
+
+        Check.check(!list.trimIfIdle(), "first call only records the state");
+        list.add(2);
+        Check.check(!list.trimIfIdle(), "modified since the previous call");
+        Check.check(list.trimIfIdle(), "idle");
+        Check.equal(base + Footprint.referenceArray(2), list.footprint(), "trimmed to size");
+        Check.check(!list.trimIfIdle(), "nothing left to release");
+        Check.equal(Arrays.asList(1, 2), list, "contents kept");
+    }
+
+    private static void linkedListFollowsEntriesAndPool() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        long base = shallow(CustomLinkedList.class);
+        long entry = shallow(nested(CustomLinkedList.class, "Entry"));
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Check.equal(base + 100 * entry, list.footprint(), "entries");
+
+        for (int i = 0; i < 50; i++) {
+            list.poll();
+        }
+        Check.equal(base + 50 * entry, list.footprint(), "entries dropped without a pool");
+
+        list.setEntryPoolCapacity(20);
+        for (int i = 0; i < 30; i++) {
+            list.poll();
+        }
+        Check.equal(base + (20 + 20) * entry, list.footprint(), "entries kept up to the pool capacity");
+        list.setEntryPoolCapacity(5);
+        Check.equal(base + (20 + 5) * entry, list.footprint(), "pool capacity lowered");
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+        Check.equal(base + 25 * entry, list.footprint(), "pooled entries reused");
+        list.poll();
+        list.trimToSize();
+        Check.equal(base + 24 * entry, list.footprint(), "pool dropped");
+
+        list.setMembershipFilterEnabled(true);
+        BloomFilter filter = (BloomFilter) read(list, "filter");
+        Check.equal(base + 24 * entry + filter.footprint(), list.footprint(), "with the filter");
+        list.setMembershipFilterEnabled(false);
+        Check.equal(base + 24 * entry, list.footprint(), "filter disabled");
+    }
+
+    private static void linkedListTrimIfIdle() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        long base = shallow(CustomLinkedList.class);
+        long entry = shallow(nested(CustomLinkedList.class, "Entry"));
+        list.setEntryPoolCapacity(10);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 8; i++) {
+            list.poll();
+        }
+
+        Check.check(!list.trimIfIdle(), "first call only records the state");
+        list.poll();
+        Check.check(!list.trimIfIdle(), "modified since the previous call");
+        Check.equal(base + 10 * entry, list.footprint(), "pool kept while busy");
+        Check.check(list.trimIfIdle(), "idle");
+        Check.equal(base + entry, list.footprint(), "pool released");
+        Check.check(!list.trimIfIdle(), "nothing left to release");
+        Check.equal(9, list.peek(), "contents kept");
+    }
+
+    private static void treeSetFollowsItsNodes() {
+        CustomTreeSet<Integer> set = new CustomTreeSet<>();
+        long base = shallow(CustomTreeSet.class);
+        long node = shallow(nested(CustomTreeSet.class, "Node"));
+
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        Check.equal(base + 100 * node, set.footprint(), "nodes");
+        for (int i = 0; i < 100; i += 2) {
+            set.remove(i);
+        }
+        Check.equal(base + 50 * node, set.footprint(), "after removals");
+
+        set.setMembershipFilterEnabled(true);
+        set.contains(1);
+        BloomFilter filter = (BloomFilter) read(set, "filter");
+        Check.equal(base + 50 * node + filter.footprint(), set.footprint(), "with the filter");
+        set.clear();
+        Check.equal(base + filter.footprint(), set.footprint(), "cleared");
+    }
+
+    //Auxiliary methods
+
+    /**
+     * Estimated size of an instance of {@code type} from its declared
+     * instance fields, superclasses included.
+     */
+    private static long shallow(Class<?> type) {
+        int references = 0;
+        int primitiveBytes = 0;
+
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                Class<?> t = field.getType();
+
+                if (!t.isPrimitive()) {
+                    references++;
+                } else if (t == long.class || t == double.class) {
+                    primitiveBytes += 8;
+                } else if (t == int.class || t == float.class) {
+                    primitiveBytes += 4;
+                } else if (t == short.class || t == char.class) {
+                    primitiveBytes += 2;
+                } else {
+                    primitiveBytes += 1;
+                }
+            }
+        }
+
+        return Footprint.object(references, primitiveBytes);
+    }
+
+    private static Class<?> nested(Class<?> outer, String name) {
+        for (Class<?> c : outer.getDeclaredClasses()) {
+            if (c.getSimpleName().equals(name)) {
+                return c;
+            }
+        }
+
+        throw new AssertionError(outer.getSimpleName() + "." + name + " not found");
+    }
+
+    private static Object read(Object o, String name) {
+        try {
+            Field field = o.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+
+            return field.get(o);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
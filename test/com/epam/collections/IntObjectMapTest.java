@@ -0,0 +1,103 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Tests for {@link IntObjectMap}, checked against {@link HashMap}.
+ */
+public class IntObjectMapTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("IntObjectMapTest passed");
+    }
+
+    static void run() {
+        matchesHashMapUnderRandomOperations();
+        cursorWritesValuesInPlace();
+        mergeRejectsACallbackThatResizes();
+    }
+
+    private static void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(1);
+        IntObjectMap<String> map = new IntObjectMap<>(2);
+        HashMap<Integer, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(400) - 200;
+            String value = "v" + random.nextInt(10);
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    Check.equal(expected.put(key, value), map.put(key, value), "put " + key);
+                    break;
+                case 2:
+                    Check.equal(expected.remove(key), map.remove(key), "remove " + key);
+                    break;
+                case 3: {
+                    // A null result removes the entry.
+                    BiFunction<String, String, String> f = (a, b) -> a.equals(b) ? null : b;
+                    Check.equal(expected.merge(key, value, f), map.merge(key, value, f), "merge " + key);
+                    break;
+                }
+                case 4:
+                    Check.equal(expected.computeIfAbsent(key, k -> value),
+                                map.computeIfAbsent(key, k -> value), "computeIfAbsent " + key);
+                    break;
+                default:
+                    Check.equal(expected.containsKey(key), map.containsKey(key), "containsKey " + key);
+                    Check.equal(expected.get(key), map.get(key), "get " + key);
+                    Check.equal(expected.getOrDefault(key, "none"), map.getOrDefault(key, "none"),
+                                "getOrDefault " + key);
+                    break;
+            }
+
+            Check.equal(expected.size(), map.size(), "size");
+        }
+
+        Map<Integer, String> entries = new HashMap<>();
+        map.forEach(entries::put);
+        Check.equal(expected, entries, "forEach");
+
+        Check.equal(null, map.computeIfAbsent(1000, k -> null), "computeIfAbsent to null");
+        Check.check(!map.containsKey(1000), "null result not inserted");
+        Check.expect(NullPointerException.class, () -> map.put(1, null), "null value");
+    }
+
+    private static void cursorWritesValuesInPlace() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        Map<Integer, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 100; i++) {
+            map.put(i * 7, "a" + i);
+            expected.put(i * 7, "b" + i);
+        }
+
+        for (IntObjectMap<String>.Cursor cursor = map.cursor(); cursor.advance(); ) {
+            cursor.setValue("b" + cursor.key() / 7);
+        }
+
+        Map<Integer, String> entries = new HashMap<>();
+        map.forEach(entries::put);
+        Check.equal(expected, entries, "values after setValue");
+
+        IntObjectMap<String>.Cursor cursor = map.cursor();
+        cursor.advance();
+        map.put(-1, "x");
+        Check.expect(ConcurrentModificationException.class, cursor::advance, "cursor after put");
+    }
+
+    private static void mergeRejectsACallbackThatResizes() {
+        IntObjectMap<String> map = new IntObjectMap<>(2);
+        map.put(1, "a");
+
+        Check.expect(ConcurrentModificationException.class, () -> map.merge(1, "b", (a, b) -> {
+            for (int k = 2; k < 100; k++) {
+                map.put(k, "k");
+            }
+            return a + b;
+        }), "merge with a resizing callback");
+        Check.equal("a", map.get(1), "value after the rejected merge");
+    }
+}
@@ -0,0 +1,197 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Randomized differential check of a {@link List} implementation against
+ * {@link ArrayList}, shared by the tests of the custom lists.
+ */
+final class ListCheck {
+    private ListCheck() {}
+
+    /**
+     * Applies {@code operations} random positional inserts, removals, bulk
+     * operations and list iterator moves to a list from {@code factory} and to
+     * an ArrayList holding the same initial elements, comparing both after
+     * every step. The size drifts up to
+     * about {@code maxSize} and back down to empty.
+     */
+    static void matchesArrayList(Supplier<List<Integer>> factory, long seed, int operations, int maxSize) {
+        Random random = new Random(seed);
+        List<Integer> list = factory.get();
+        List<Integer> expected = new ArrayList<>(list);
+        boolean growing = true;
+
+        for (int step = 0; step < operations; step++) {
+            int size = expected.size();
+            String at = "step " + step + ", size " + size + ": ";
+
+            if (size >= maxSize) {
+                growing = false;
+            } else if (size == 0) {
+                growing = true;
+            }
+
+            int op = random.nextInt(12);
+
+            if (op < 3 && !growing && size > 0) {
+                op = 3;
+            }
+
+            switch (op) {
+                case 0: {
+                    int index = random.nextInt(size + 1);
+                    list.add(index, step);
+                    expected.add(index, step);
+                    break;
+                }
+                case 1:
+                    Check.equal(expected.add(step), list.add(step), at + "add");
+                    break;
+                case 2: {
+                    // A small batch, inserted element by element or in place.
+                    int index = random.nextInt(size + 1);
+                    List<Integer> batch = batch(step, 1 + random.nextInt(4));
+                    Check.equal(expected.addAll(index, batch), list.addAll(index, batch), at + "addAll small");
+                    break;
+                }
+                case 3:
+                case 4:
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        Check.equal(expected.remove(index), list.remove(index), at + "remove(" + index + ")");
+                    }
+                    break;
+                case 5:
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        Check.equal(expected.get(index), list.get(index), at + "get(" + index + ")");
+                        Check.equal(expected.set(index, -step), list.set(index, -step), at + "set(" + index + ")");
+                    }
+                    break;
+                case 6:
+                    if (random.nextInt(20) == 0 || size == 0) {
+                        // A batch at least as large as the list, which may rebuild it.
+                        int index = random.nextInt(size + 1);
+                        List<Integer> batch = batch(step, size + 1);
+                        Check.equal(expected.addAll(index, batch), list.addAll(index, batch), at + "addAll large");
+                    }
+                    break;
+                case 7:
+                    if (random.nextInt(10) == 0) {
+                        Set<Integer> c = sample(expected, random);
+                        Check.equal(expected.removeAll(c), list.removeAll(c), at + "removeAll");
+                    }
+                    break;
+                case 8:
+                    if (random.nextInt(10) == 0) {
+                        Set<Integer> c = sample(expected, random);
+                        c.addAll(sample(expected, random));
+                        c.addAll(sample(expected, random));
+                        Check.equal(expected.retainAll(c), list.retainAll(c), at + "retainAll");
+                    }
+                    break;
+                case 9:
+                    if (size > 0) {
+                        Integer value = expected.get(random.nextInt(size));
+                        Check.equal(expected.indexOf(value), list.indexOf(value), at + "indexOf");
+                        Check.equal(expected.remove(value), list.remove(value), at + "remove(Object)");
+                    }
+                    break;
+                default:
+                    iterate(list, expected, random, at);
+                    break;
+            }
+
+            Check.equal(expected.size(), list.size(), at + "size");
+            if (step % 16 == 0) {
+                same(expected, list, at);
+            }
+        }
+
+        same(expected, list, "end: ");
+    }
+
+    /**
+     * Walks a list iterator from a random index, going back with previous()
+     * and removing, setting or adding on the way.
+     */
+    private static void iterate(List<Integer> list, List<Integer> expected, Random random, String at) {
+        int start = random.nextInt(expected.size() + 1);
+        ListIterator<Integer> it = list.listIterator(start);
+        ListIterator<Integer> expectedIt = expected.listIterator(start);
+
+        for (int moves = random.nextInt(8); moves > 0; moves--) {
+            boolean forward = random.nextBoolean();
+
+            if (forward ? !expectedIt.hasNext() : !expectedIt.hasPrevious()) {
+                forward = !forward;
+            }
+            if (forward ? !expectedIt.hasNext() : !expectedIt.hasPrevious()) {
+                it.add(moves);
+                expectedIt.add(moves);
+                continue;
+            }
+
+            Check.equal(expectedIt.nextIndex(), it.nextIndex(), at + "nextIndex");
+            Check.equal(forward ? expectedIt.next() : expectedIt.previous(),
+                        forward ? it.next() : it.previous(), at + (forward ? "next" : "previous"));
+
+            switch (random.nextInt(4)) {
+                case 0:
+                    it.remove();
+                    expectedIt.remove();
+                    break;
+                case 1:
+                    it.set(-moves);
+                    expectedIt.set(-moves);
+                    break;
+                case 2:
+                    it.add(moves);
+                    expectedIt.add(moves);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        Check.equal(expectedIt.nextIndex(), it.nextIndex(), at + "nextIndex after iterating");
+    }
+
+    static void same(List<Integer> expected, List<Integer> list, String at) {
+        Check.equal(expected.size(), list.size(), at + "size");
+        for (int i = 0; i < expected.size(); i++) {
+            Check.equal(expected.get(i), list.get(i), at + "get(" + i + ")");
+        }
+        Check.equal(expected, Arrays.asList(list.toArray()), at + "toArray");
+
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : list) {
+            iterated.add(value);
+        }
+        Check.equal(expected, iterated, at + "iterator");
+    }
+
+    private static List<Integer> batch(int first, int count) {
+        List<Integer> batch = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            batch.add(first * 1000 + i);
+        }
+
+        return batch;
+    }
+
+    private static Set<Integer> sample(List<Integer> values, Random random) {
+        Set<Integer> sample = new HashSet<>();
+
+        for (Integer value : values) {
+            if (random.nextInt(4) == 0) {
+                sample.add(value);
+            }
+        }
+
+        return sample;
+    }
+}
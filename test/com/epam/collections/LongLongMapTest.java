@@ -0,0 +1,133 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link LongLongMap}, checked against {@link HashMap}. Key 0 is
+ * stored outside the table, so the random keys include it.
+ */
+public class LongLongMapTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("LongLongMapTest passed");
+    }
+
+    static void run() {
+        matchesHashMapUnderRandomOperations();
+        keyZeroLivesOutsideTheTable();
+        mergeRejectsACallbackThatResizes();
+        computeIfAbsentRejectsACallbackThatInserts();
+    }
+
+    private static void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(1);
+        LongLongMap map = new LongLongMap(2);
+        HashMap<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(400) - 200;
+            long value = random.nextInt(1000);
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    Check.equal(orZero(expected.put(key, value)), map.put(key, value), "put " + key);
+                    break;
+                case 2:
+                    Check.equal(orZero(expected.remove(key)), map.remove(key), "remove " + key);
+                    break;
+                case 3:
+                    Check.equal(expected.merge(key, value, Long::sum).longValue(),
+                                map.merge(key, value, Long::sum), "merge " + key);
+                    break;
+                case 4:
+                    Check.equal(expected.computeIfAbsent(key, k -> value).longValue(),
+                                map.computeIfAbsent(key, k -> value), "computeIfAbsent " + key);
+                    break;
+                default:
+                    Check.equal(expected.containsKey(key), map.containsKey(key), "containsKey " + key);
+                    Check.equal(orZero(expected.get(key)), map.get(key), "get " + key);
+                    Check.equal(expected.getOrDefault(key, -1L).longValue(), map.getOrDefault(key, -1),
+                                "getOrDefault " + key);
+                    break;
+            }
+
+            Check.equal(expected.size(), map.size(), "size");
+        }
+
+        Check.equal(expected, entries(map), "forEach");
+
+        Map<Long, Long> viaCursor = new HashMap<>();
+        for (LongLongMap.Cursor cursor = map.cursor(); cursor.advance(); ) {
+            viaCursor.put(cursor.key(), cursor.value());
+        }
+        Check.equal(expected, viaCursor, "cursor");
+    }
+
+    private static void keyZeroLivesOutsideTheTable() {
+        LongLongMap map = new LongLongMap();
+
+        Check.check(!map.containsKey(0), "empty map has no key 0");
+        Check.equal(0L, map.put(0, 5), "put 0");
+        Check.check(map.containsKey(0), "key 0 present");
+        Check.equal(1, map.size(), "size counts key 0");
+        Check.equal(5L, map.put(0, 6), "put 0 again returns the old value");
+        Check.equal(8L, map.merge(0, 2, Long::sum), "merge into key 0");
+        Check.equal(8L, map.computeIfAbsent(0, k -> 99), "computeIfAbsent of present key 0");
+
+        map.put(1, 1);
+
+        LongLongMap.Cursor cursor = map.cursor();
+        Check.check(cursor.advance(), "cursor has an entry");
+        Check.equal(0L, cursor.key(), "key 0 comes first");
+        Check.equal(8L, cursor.setValue(9), "setValue on key 0");
+        Check.equal(9L, map.get(0), "value written through the cursor");
+
+        Check.equal(9L, map.remove(0), "remove 0");
+        Check.check(!map.containsKey(0), "key 0 removed");
+        Check.equal(0L, map.remove(0), "remove absent key 0");
+        Check.equal(3L, map.merge(0, 3, Long::sum), "merge inserts key 0");
+        Check.equal(3L, map.get(0), "key 0 after merge");
+        map.remove(0);
+        Check.equal(4L, map.computeIfAbsent(0, k -> 4), "computeIfAbsent inserts key 0");
+        Check.equal(2, map.size(), "size");
+
+        map.clear();
+        Check.check(map.isEmpty() && !map.containsKey(0), "clear removes key 0");
+    }
+
+    private static void mergeRejectsACallbackThatResizes() {
+        LongLongMap map = new LongLongMap(2);
+        map.put(1, 1);
+
+        Check.expect(ConcurrentModificationException.class, () -> map.merge(1, 1, (a, b) -> {
+            for (long k = 2; k < 100; k++) {
+                map.put(k, k);
+            }
+            return a + b;
+        }), "merge with a resizing callback");
+        Check.equal(1L, map.get(1), "value after the rejected merge");
+    }
+
+    private static void computeIfAbsentRejectsACallbackThatInserts() {
+        LongLongMap map = new LongLongMap();
+
+        Check.expect(ConcurrentModificationException.class, () -> map.computeIfAbsent(1, k -> {
+            map.put(2, 2);
+            return 1;
+        }), "computeIfAbsent with an inserting callback");
+        Check.check(!map.containsKey(1), "rejected value not inserted");
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    private static Map<Long, Long> entries(LongLongMap map) {
+        Map<Long, Long> entries = new HashMap<>();
+
+        map.forEach(entries::put);
+
+        return entries;
+    }
+}
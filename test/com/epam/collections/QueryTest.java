@@ -0,0 +1,207 @@
+package com.epam.collections;
+
+import java.util.*;
+
+/**
+ * Tests for {@link Query} over the custom collections and for the range
+ * queries of {@link CustomTreeSet}.
+ */
+public class QueryTest {
+    public static void main(String[] args) {
+        run();
+        System.out.println("QueryTest passed");
+    }
+
+    static void run() {
+        shortCircuitingStopsTheSource();
+        skipAndLimit();
+        distinctKeepsFirstOccurrences();
+        treeRangesMatchFilteredSet();
+        mutatingSinkThrows();
+        rerunSeesCurrentContents();
+    }
+
+    private static CustomArrayList<Integer> arrayList(int n) {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static CustomLinkedList<Integer> linkedList(int n) {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static CustomTreeSet<Integer> treeSet(int n) {
+        CustomTreeSet<Integer> set = new CustomTreeSet<>();
+        for (int i = 0; i < n; i++) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    private static List<Query<Integer>> sources(int n) {
+        return Arrays.asList(arrayList(n).query(), linkedList(n).query(), treeSet(n).query());
+    }
+
+    private static void shortCircuitingStopsTheSource() {
+        for (Query<Integer> source : sources(100)) {
+            int[] pulled = {0};
+            Query<Integer> counted = source.map(o -> {
+                pulled[0]++;
+                return o;
+            });
+
+            Check.equal(Arrays.asList(0, 1, 2), new ArrayList<>(counted.limit(3).toList()), "limit");
+            Check.equal(3, pulled[0], "elements pulled by limit(3)");
+
+            pulled[0] = 0;
+            Check.equal(0L, counted.limit(0).count(), "limit(0)");
+            Check.equal(0, pulled[0], "elements pulled by limit(0)");
+
+            pulled[0] = 0;
+            Check.equal(10, counted.filter(o -> o >= 10).first(), "first");
+            Check.equal(11, pulled[0], "elements pulled by first");
+
+            pulled[0] = 0;
+            Check.check(counted.anyMatch(o -> o == 42), "anyMatch");
+            Check.equal(43, pulled[0], "elements pulled by anyMatch");
+
+            pulled[0] = 0;
+            Check.check(!counted.allMatch(o -> o < 5), "allMatch");
+            Check.equal(6, pulled[0], "elements pulled by allMatch");
+
+            pulled[0] = 0;
+            Check.check(!counted.anyMatch(o -> o < 0), "anyMatch without a match");
+            Check.equal(100, pulled[0], "elements pulled by a failed anyMatch");
+            Check.equal(null, counted.filter(o -> o < 0).first(), "first without a result");
+        }
+    }
+
+    private static void skipAndLimit() {
+        for (Query<Integer> source : sources(20)) {
+            Check.equal(Arrays.asList(5, 6, 7), new ArrayList<>(source.skip(5).limit(3).toList()),
+                        "skip then limit");
+            Check.equal(Arrays.asList(3, 4), new ArrayList<>(source.limit(5).skip(3).toList()),
+                        "limit then skip");
+            Check.equal(0L, source.skip(20).count(), "skip everything");
+            Check.equal(0L, source.skip(25).count(), "skip past the end");
+            Check.equal(20L, source.skip(0).limit(20).count(), "no-op skip and limit");
+            Check.equal(Arrays.asList(12, 14), new ArrayList<>(source.filter(o -> o % 2 == 0).skip(6).limit(2).toList()),
+                        "skip and limit after filter");
+            Check.equal(Arrays.asList(4, 5), new ArrayList<>(source.skip(2).skip(2).limit(5).limit(2).toList()),
+                        "chained skip and limit");
+            Check.expect(IllegalArgumentException.class, () -> source.skip(-1), "negative skip");
+            Check.expect(IllegalArgumentException.class, () -> source.limit(-1), "negative limit");
+        }
+    }
+
+    private static void distinctKeepsFirstOccurrences() {
+        CustomArrayList<Integer> array = new CustomArrayList<>();
+        CustomLinkedList<Integer> linked = new CustomLinkedList<>();
+        List<Integer> values = Arrays.asList(3, null, 1, 3, null, 2, 1, 4);
+        for (Integer value : values) {
+            array.add(value);
+            linked.add(value);
+        }
+
+        List<Integer> expected = Arrays.asList(3, null, 1, 2, 4);
+        for (Query<Integer> query : Arrays.asList(array.query(), linked.query())) {
+            Check.equal(expected, new ArrayList<>(query.distinct().toList()), "distinct");
+            Check.equal(Arrays.asList(3, null, 1), new ArrayList<>(query.distinct().limit(3).toList()),
+                        "distinct then limit");
+            Check.equal(Arrays.asList(null, 1), new ArrayList<>(query.distinct().skip(1).limit(2).toList()),
+                        "distinct then skip");
+            Check.equal(5L, query.distinct().count(), "distinct count");
+            Check.equal(Arrays.asList(2, 4), new ArrayList<>(
+                    query.filter(Objects::nonNull).map(o -> o * 2).distinct().skip(1).limit(2).toList()),
+                        "distinct after map");
+            Check.equal(expected, new ArrayList<>(query.distinct().toList()), "distinct run again");
+        }
+    }
+
+    /**
+     * Every combination of inclusive and exclusive bounds, with bounds that
+     * are elements of the set, bounds that fall between elements or outside
+     * the set, and open ends.
+     */
+    private static void treeRangesMatchFilteredSet() {
+        CustomTreeSet<Integer> set = new CustomTreeSet<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i <= 40; i += 2) {
+            set.add(i);
+            expected.add(i);
+        }
+
+        Integer[] bounds = {null, -5, 0, 1, 4, 5, 12, 13, 40, 41, 50};
+        for (Integer from : bounds) {
+            for (Integer to : bounds) {
+                if (from != null && to != null && from > to) {
+                    Integer f = from, t = to;
+                    Check.expect(IllegalArgumentException.class, () -> set.query(f, true, t, true),
+                                 "from " + from + " > to " + to);
+                    continue;
+                }
+                for (boolean fromInclusive : new boolean[]{true, false}) {
+                    for (boolean toInclusive : new boolean[]{true, false}) {
+                        List<Integer> range = new ArrayList<>();
+                        for (Integer value : expected) {
+                            if ((from == null || value > from || fromInclusive && value.equals(from))
+                                    && (to == null || value < to || toInclusive && value.equals(to))) {
+                                range.add(value);
+                            }
+                        }
+
+                        String at = (fromInclusive ? "[" : "(") + from + ", " + to + (toInclusive ? "]" : ")");
+                        Query<Integer> query = set.query(from, fromInclusive, to, toInclusive);
+                        Check.equal(range, new ArrayList<>(query.toList()), at);
+                        Check.equal(range.isEmpty() ? null : range.get(0), query.first(), at + " first");
+                        Check.equal((long) range.size(), query.count(), at + " count");
+                    }
+                }
+            }
+        }
+
+        Check.equal(new ArrayList<>(expected), new ArrayList<>(set.query().toList()), "whole set");
+        Check.equal(0L, new CustomTreeSet<Integer>().query(1, true, 5, true).count(), "empty set");
+    }
+
+    private static void mutatingSinkThrows() {
+        CustomArrayList<Integer> array = arrayList(10);
+        Check.expect(ConcurrentModificationException.class, () -> array.query().forEach(o -> array.add(o)),
+                     "CustomArrayList add");
+        Check.equal(11, array.size(), "one element added before the failure");
+
+        CustomLinkedList<Integer> linked = linkedList(10);
+        Check.expect(ConcurrentModificationException.class,
+                     () -> linked.query().filter(o -> o == 3).forEach(linked::remove), "CustomLinkedList remove");
+
+        CustomTreeSet<Integer> tree = treeSet(10);
+        Check.expect(ConcurrentModificationException.class,
+                     () -> tree.query(2, true, 8, false).forEach(tree::remove), "CustomTreeSet remove");
+        Check.expect(ConcurrentModificationException.class,
+                     () -> tree.query().map(o -> o + 100).into(tree), "CustomTreeSet into itself");
+
+        // The check also runs for the element that ends the pass.
+        CustomArrayList<Integer> stopped = arrayList(10);
+        Check.expect(ConcurrentModificationException.class, () -> stopped.query().map(o -> {
+            stopped.add(o);
+            return o;
+        }).first(), "first");
+    }
+
+    private static void rerunSeesCurrentContents() {
+        CustomTreeSet<Integer> set = treeSet(5);
+        Query<Integer> query = set.query(1, true, 10, true).filter(o -> o % 2 == 1);
+
+        Check.equal(Arrays.asList(1, 3), new ArrayList<>(query.toList()), "first run");
+        set.add(7);
+        set.remove(1);
+        Check.equal(Arrays.asList(3, 7), new ArrayList<>(query.toList()), "second run");
+    }
+}
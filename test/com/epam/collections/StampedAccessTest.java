@@ -0,0 +1,176 @@
+package com.epam.collections;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Tests for {@link StampedAccess} through {@link StampedArrayList} and
+ * {@link StampedTreeSet}. Writers only change the collections in groups of
+ * {@link #GROUP} elements with one bulk call each, so a reader that never
+ * sees a torn state always finds whole groups.
+ */
+public class StampedAccessTest {
+    private static final int WRITERS = 2;
+    private static final int READERS = 3;
+    private static final int ROUNDS = 10_000;
+    private static final int GROUP = 8;
+
+    public static void main(String[] args) {
+        run();
+        System.out.println("StampedAccessTest passed");
+    }
+
+    static void run() {
+        try {
+            listReadersNeverSeeTornWrites();
+            setReadersNeverSeeTornWrites();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Every writer adds GROUP copies of a value at the head or the tail,
+     * which also wraps and grows the circular buffer, and later removes
+     * all of them with removeAll. A group therefore always appears whole
+     * and contiguous.
+     */
+    private static void listReadersNeverSeeTornWrites() throws InterruptedException {
+        StampedArrayList<Integer> list = new StampedArrayList<>(new CustomArrayList<>(4));
+
+        stress("StampedArrayList", writer -> {
+            Deque<Integer> present = new ArrayDeque<>();
+
+            for (int i = 0; i < ROUNDS; i++) {
+                Integer value = writer * ROUNDS + i;
+
+                if (i % 2 == 0) {
+                    list.addAll(0, Collections.nCopies(GROUP, value));
+                } else {
+                    list.addAll(Collections.nCopies(GROUP, value));
+                }
+                present.add(value);
+                if (present.size() > 4) {
+                    list.removeAll(Collections.singleton(present.poll()));
+                }
+            }
+        }, () -> {
+            Check.equal(0, list.size() % GROUP, "size is a whole number of groups");
+
+            Object[] a = list.toArray();
+
+            Check.equal(0, a.length % GROUP, "toArray length");
+            for (int i = 0; i < a.length; i += GROUP) {
+                for (int j = i; j < i + GROUP; j++) {
+                    Check.check(a[j] != null && a[j].equals(a[i]), "group at " + i + " is whole: " + Arrays.toString(a));
+                }
+            }
+
+            int count = 0;
+            for (Integer ignored : list) {
+                count++;
+            }
+            Check.equal(0, count % GROUP, "iterated a whole number of groups");
+        });
+    }
+
+    /**
+     * Every writer adds GROUP consecutive keys with addAll, which rebuilds
+     * the tree, and later removes them with removeAll.
+     */
+    private static void setReadersNeverSeeTornWrites() throws InterruptedException {
+        StampedTreeSet<Integer> set = new StampedTreeSet<>();
+
+        stress("StampedTreeSet", writer -> {
+            Deque<List<Integer>> present = new ArrayDeque<>();
+
+            for (int i = 0; i < ROUNDS; i++) {
+                List<Integer> group = new ArrayList<>();
+                int first = (writer * ROUNDS + i) * GROUP;
+
+                for (int j = 0; j < GROUP; j++) {
+                    group.add(first + j);
+                }
+
+                set.addAll(group);
+                present.add(group);
+                if (present.size() > 4) {
+                    set.removeAll(present.poll());
+                }
+            }
+        }, () -> {
+            Check.equal(0, set.size() % GROUP, "size is a whole number of groups");
+
+            Object[] a = set.toArray();
+
+            Check.equal(0, a.length % GROUP, "toArray length");
+            for (int i = 0; i < a.length; i += GROUP) {
+                int first = (Integer) a[i];
+
+                Check.equal(0, first % GROUP, "group at " + i + " starts a group");
+                for (int j = 1; j < GROUP; j++) {
+                    Check.equal(first + j, a[i + j], "group at " + i + " is whole and sorted");
+                }
+            }
+        });
+    }
+
+    interface Writer {
+        void run(int writer);
+    }
+
+    private static void stress(String name, Writer writer, Runnable read) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(WRITERS);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int id = w;
+
+            threads.add(new Thread(() -> {
+                try {
+                    await(start);
+                    writer.run(id);
+                } catch (RuntimeException | AssertionError e) {
+                    failures.add(e);
+                } finally {
+                    writersDone.countDown();
+                }
+            }));
+        }
+        for (int r = 0; r < READERS; r++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                try {
+                    while (writersDone.getCount() > 0) {
+                        read.run();
+                    }
+                } catch (RuntimeException | AssertionError e) {
+                    failures.add(e);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        if (!failures.isEmpty()) {
+            throw new AssertionError(name + ": " + failures.get(0), failures.get(0));
+        }
+        read.run();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}